@@ -0,0 +1,69 @@
+package edu.ucf.college_event_website.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the benchmarks whose name matches the first argument (all of this package by default)
+ * and writes the results as JSON to target/jmh-result.json, or to -Djmh.result=path,
+ * so runs can be archived and compared to spot regressions.
+ * Further arguments are JMH options, for example -p users=1000000 or -i 3.
+ * Run with: ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.benchmark.Benchmarks [-Dexec.args="EventService -f 1"]
+ */
+public final class Benchmarks {
+
+    private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(args.length > 0 ? args : new String[]{Benchmarks.class.getPackageName()});
+    }
+
+    // JMH command-line arguments: the benchmarks to include, then any options
+    static void run(String... args) throws RunnerException {
+        CommandLineOptions options;
+        try {
+            options = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        useExecClasspath();
+        new Runner(new OptionsBuilder()
+                .parent(options)
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", DEFAULT_RESULT))
+                .build()).run();
+    }
+
+    // Forked benchmark JVMs are started on java.class.path, which under exec:java is Maven's own.
+    // The project's classes and JMH come from the class loader exec:java sets up.
+    private static void useExecClasspath() {
+        if (!(Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader)) {
+            return;
+        }
+        List<String> entries = new ArrayList<>();
+        for (URL url : loader.getURLs()) {
+            try {
+                entries.add(Path.of(url.toURI()).toString());
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Unusable classpath entry " + url, e);
+            }
+        }
+        System.setProperty("java.class.path", String.join(File.pathSeparator, entries));
+    }
+}
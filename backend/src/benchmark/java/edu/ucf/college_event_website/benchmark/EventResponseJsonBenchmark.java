@@ -0,0 +1,126 @@
+package edu.ucf.college_event_website.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.config.JsonFragmentsHttpMessageConverter;
+import edu.ucf.college_event_website.dto.EventResponse;
+import edu.ucf.college_event_website.model.EventType;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.JsonFragments;
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to write an event list response body: serializing every EventResponse with the ObjectMapper
+ * Spring MVC uses for responses, against stitching the JSON EventJsonCache keeps for each event.
+ * writeThroughCache is what a request pays once every event is cached: a cache lookup per event
+ * (as EventService.toJson does) and the stitching.
+ * All are pure CPU on one thread, so the difference is the CPU saved per request.
+ * Run with: ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.benchmark.EventResponseJsonBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class EventResponseJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int events;
+
+    private ObjectMapper objectMapper;
+    private List<EventResponse> responses;
+    private JsonFragments fragments;
+    private JsonFragmentsHttpMessageConverter fragmentsConverter;
+    private EventJsonCache cache;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        EventType[] types = EventType.values();
+        EventResponse.LocationDto location = new EventResponse.LocationDto(
+                1L, "Student Union", "12715 Pegasus Dr, Orlando, FL", 28.6019, -81.2004);
+        responses = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            EventType type = types[i % types.length];
+            responses.add(new EventResponse(
+                    (long) i,
+                    "Event " + i,
+                    "Event " + i + " description",
+                    LocalTime.of(18, 0),
+                    LocalDate.of(2026, 11, 1).plusDays(i % 60),
+                    location,
+                    "Alex Knight",
+                    "UCF",
+                    type,
+                    "407-555-0100",
+                    "admin@ucf.edu",
+                    (i % 5) + 0.5,
+                    i % 12,
+                    type == EventType.PUBLIC ? Boolean.TRUE : null
+            ));
+        }
+
+        List<byte[]> elements = new ArrayList<>(events);
+        for (EventResponse response : responses) {
+            elements.add(objectMapper.writeValueAsBytes(response));
+        }
+        fragments = new JsonFragments(elements);
+        fragmentsConverter = new JsonFragmentsHttpMessageConverter();
+
+        cache = new EventJsonCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "warmupTraffic", new WarmupTraffic());
+        ReflectionTestUtils.setField(cache, "maxEntries", 10000);
+        cache.initMetrics();
+        long readStartedAt = cache.startRead();
+        for (EventResponse response : responses) {
+            cache.get(response.getId(), readStartedAt, () -> response);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeEventList() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] writeCachedFragments() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        fragmentsConverter.write(fragments, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public byte[] writeThroughCache() throws IOException {
+        long readStartedAt = cache.startRead();
+        List<byte[]> elements = new ArrayList<>(responses.size());
+        for (EventResponse response : responses) {
+            elements.add(cache.get(response.getId(), readStartedAt, () -> response).json());
+        }
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        fragmentsConverter.write(new JsonFragments(elements), MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Benchmarks.run(EventResponseJsonBenchmark.class.getSimpleName());
+    }
+}
@@ -0,0 +1,199 @@
+package edu.ucf.college_event_website.benchmark;
+
+import edu.ucf.college_event_website.CollegeEventWebsiteApplication;
+import edu.ucf.college_event_website.config.JwtPrincipal;
+import edu.ucf.college_event_website.model.*;
+import edu.ucf.college_event_website.repository.*;
+import edu.ucf.college_event_website.service.EventService;
+import edu.ucf.college_event_website.util.JsonFragments;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Time to build the event list of GET /api/events (visibility filtering and DTO assembly)
+ * against the test H2 database, seeded with a third each of public, private and RSO events.
+ * Each call runs like a request: its own persistence context (Open Session In View),
+ * request attributes and an authenticated principal. Events are unchanged between calls,
+ * so after the first call every event's JSON comes from EventJsonCache.
+ * Run with: ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.benchmark.EventServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class EventServiceBenchmark {
+
+    @Param({"50", "500"})
+    private int events;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private EventService eventService;
+    private User student;
+    private User superAdmin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // As command-line arguments, so they win over the test application.properties on the classpath
+        context = new SpringApplicationBuilder(CollegeEventWebsiteApplication.class)
+                .run("--server.port=0", "--app.query-budget.fail-on-exceed=false", "--app.jit-warmup.enabled=false");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        eventService = context.getBean(EventService.class);
+        // One transaction, so the events are still managed when their subtype rows take their IDs
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> seed());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public JsonFragments visibleEventsAsStudent() {
+        return asRequest(student, eventService::getEventsForCurrentUser);
+    }
+
+    @Benchmark
+    public JsonFragments allEventsAsSuperAdmin() {
+        return asRequest(superAdmin, eventService::getEventsForCurrentUser);
+    }
+
+    // Run the call the way a request thread would, then clean up like the filters do
+    private <T> T asRequest(User user, Supplier<T> call) {
+        EntityManagerHolder holder = new EntityManagerHolder(entityManagerFactory.createEntityManager());
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        JwtPrincipal principal = new JwtPrincipal(user.getEmail(), user.getId(), user.getRole().name(),
+                user.getCollege() == null ? null : user.getCollege().getId());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))));
+        try {
+            return call.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+            RequestContextHolder.resetRequestAttributes();
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            holder.getEntityManager().close();
+        }
+    }
+
+    // One college, a student in one of its RSOs, and the events split across the three types
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CollegeRepository collegeRepository = context.getBean(CollegeRepository.class);
+        LocationRepository locationRepository = context.getBean(LocationRepository.class);
+        RsoRepository rsoRepository = context.getBean(RsoRepository.class);
+        RsoMembershipRepository rsoMembershipRepository = context.getBean(RsoMembershipRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        PublicEventRepository publicEventRepository = context.getBean(PublicEventRepository.class);
+        PrivateEventRepository privateEventRepository = context.getBean(PrivateEventRepository.class);
+        RsoEventRepository rsoEventRepository = context.getBean(RsoEventRepository.class);
+
+        superAdmin = userRepository.save(user("super@ucf.edu", Role.SUPER_ADMIN, null));
+
+        College college = new College();
+        college.setName("UCF");
+        college.setLocation("Orlando, FL");
+        college.setDescription("University of Central Florida");
+        college.setCreatedBy(superAdmin);
+        college = collegeRepository.save(college);
+
+        User admin = userRepository.save(user("admin@ucf.edu", Role.ADMIN, college));
+        student = userRepository.save(user("student@ucf.edu", Role.STUDENT, college));
+
+        Location location = new Location();
+        location.setName("Student Union");
+        location.setAddress("12715 Pegasus Dr, Orlando, FL");
+        location.setLatitude(new BigDecimal("28.60190000"));
+        location.setLongitude(new BigDecimal("-81.20040000"));
+        location = locationRepository.save(location);
+
+        Rso rso = new Rso();
+        rso.setName("Chess Club");
+        rso.setDescription("Chess Club at UCF");
+        rso.setAdmin(admin);
+        rso.setCollege(college);
+        rso.setMemberCount(1);
+        rso.setStatus(RsoStatus.INACTIVE);
+        rso = rsoRepository.save(rso);
+
+        RsoMembership membership = new RsoMembership();
+        membership.setId(new RsoMembershipKey(student.getId(), rso.getId()));
+        membership.setUser(student);
+        membership.setRso(rso);
+        rsoMembershipRepository.save(membership);
+
+        EventType[] types = EventType.values();
+        for (int i = 0; i < events; i++) {
+            EventType type = types[i % types.length];
+            Event event = new Event();
+            event.setName("Event " + i);
+            event.setDescription("Event " + i + " description");
+            event.setTime(LocalTime.of(18, 0));
+            event.setDate(LocalDate.of(2026, 11, 1).plusDays(i % 60));
+            event.setLocation(location);
+            event.setCreatedBy(admin);
+            event.setCollege(college);
+            event.setEventType(type);
+            event.setContactEmail("admin@ucf.edu");
+            event.setContactPhone("407-555-0100");
+            event = eventRepository.save(event);
+
+            if (type == EventType.PUBLIC) {
+                PublicEvent details = new PublicEvent();
+                details.setEvent(event);
+                details.setSuperAdmin(superAdmin);
+                details.setApproved(i % 2 == 0);
+                publicEventRepository.save(details);
+            } else if (type == EventType.PRIVATE) {
+                PrivateEvent details = new PrivateEvent();
+                details.setEvent(event);
+                details.setAdmin(admin);
+                privateEventRepository.save(details);
+            } else {
+                RsoEvent details = new RsoEvent();
+                details.setEvent(event);
+                details.setRso(rso);
+                rsoEventRepository.save(details);
+            }
+        }
+    }
+
+    private static User user(String email, Role role, College college) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFirstName("Knight");
+        user.setLastName("Knight");
+        user.setPassword("not-a-bcrypt-hash");
+        user.setRole(role);
+        user.setCollege(college);
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Benchmarks.run(EventServiceBenchmark.class.getSimpleName());
+    }
+}
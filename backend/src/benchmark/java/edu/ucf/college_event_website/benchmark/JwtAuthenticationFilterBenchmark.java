@@ -0,0 +1,126 @@
+package edu.ucf.college_event_website.benchmark;
+
+import edu.ucf.college_event_website.config.JwtAuthenticationFilter;
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.RevokedTokenRepository;
+import edu.ucf.college_event_website.service.TokenRevocationService;
+import edu.ucf.college_event_website.util.InJvmRevocationBroadcast;
+import edu.ucf.college_event_website.util.JwtUtil;
+import edu.ucf.college_event_website.util.UserStalenessRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests authenticated per second by JwtAuthenticationFilter on a single thread,
+ * from reading the header to the authentication in the security context, with a mocked chain.
+ * cachedToken is a client repeating its token, verifiedToken a token the filter has not seen
+ * (full HMAC check), anonymous a request without a token.
+ * Run with: ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.benchmark.JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter verifyingFilter;
+    private String token;
+
+    // Two tokens used in turn, so a verified-claims cache of one entry never hits
+    private String[] uncachedTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("student@ucf.edu");
+        user.setRole(Role.STUDENT);
+
+        JwtUtil cachingJwtUtil = JwtUtilBenchmark.newJwtUtil();
+        cachingFilter = newFilter(cachingJwtUtil);
+        token = cachingJwtUtil.generateToken(user);
+
+        JwtUtil verifyingJwtUtil = JwtUtilBenchmark.newJwtUtil();
+        ReflectionTestUtils.setField(verifyingJwtUtil, "cacheSize", 1);
+        verifyingFilter = newFilter(verifyingJwtUtil);
+        uncachedTokens = new String[]{verifyingJwtUtil.generateToken(user), verifyingJwtUtil.generateToken(user)};
+    }
+
+    // The filter as wired in the application, minus the database (tokens carry the user claims)
+    private static JwtAuthenticationFilter newFilter(JwtUtil jwtUtil) {
+        UserStalenessRegistry userStalenessRegistry = new UserStalenessRegistry();
+        ReflectionTestUtils.setField(userStalenessRegistry, "expiration", TimeUnit.HOURS.toMillis(1));
+
+        TokenRevocationService tokenRevocationService = new TokenRevocationService();
+        ReflectionTestUtils.setField(tokenRevocationService, "revokedTokenRepository",
+                Mockito.mock(RevokedTokenRepository.class));
+        ReflectionTestUtils.setField(tokenRevocationService, "revocationBroadcast", new InJvmRevocationBroadcast());
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedRevocations", 100_000);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+        tokenRevocationService.init();
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", Mockito.mock(UserDetailsService.class));
+        ReflectionTestUtils.setField(filter, "userStalenessRegistry", userStalenessRegistry);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", tokenRevocationService);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        filter.initMetrics();
+        return filter;
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws ServletException, IOException {
+        return authenticate(cachingFilter, token);
+    }
+
+    @Benchmark
+    public Authentication verifiedToken() throws ServletException, IOException {
+        next ^= 1;
+        return authenticate(verifyingFilter, uncachedTokens[next]);
+    }
+
+    @Benchmark
+    public Authentication anonymous() throws ServletException, IOException {
+        return authenticate(cachingFilter, null);
+    }
+
+    private static Authentication authenticate(JwtAuthenticationFilter filter, String token)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        if (token != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Benchmarks.run(JwtAuthenticationFilterBenchmark.class.getSimpleName());
+    }
+}
@@ -0,0 +1,115 @@
+package edu.ucf.college_event_website.benchmark;
+
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens created or verified per second on a single thread (one core).
+ * freshKeyAndParser is how JwtUtil used to verify a token, sharedParser and cachedClaims are the current paths.
+ * missOnFullCache verifies a stream of distinct tokens through a full cache, which is what trimming costs.
+ * It should stay close to sharedParser: well below it, a miss costs more than verifying without a cache.
+ * Run with: ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.benchmark.JwtUtilBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-benchmark-secret-0123456789".getBytes());
+
+    private JwtUtil jwtUtil;
+    private JwtParser sharedParser;
+    private User user;
+    private String token;
+    private String[] distinctTokens;
+    private int nextToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil();
+        sharedParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .build();
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("student@ucf.edu");
+        user.setRole(Role.STUDENT);
+        token = jwtUtil.generateToken(user);
+
+        // Twice the cache size, so the cache is full and every lookup misses
+        distinctTokens = new String[20_000];
+        for (int i = 0; i < distinctTokens.length; i++) {
+            distinctTokens[i] = jwtUtil.generateToken(user);
+        }
+        for (String distinct : distinctTokens) {
+            jwtUtil.extractAllClaims(distinct);
+        }
+    }
+
+    static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "cacheSize", 10_000);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    // Login and refresh: sign a new access token
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    // Before: decode the secret, build a key and a parser for every verification
+    @Benchmark
+    public Claims freshKeyAndParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    // After, first sight of a token: full HMAC verification with the shared parser
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser.parseClaimsJws(token).getBody();
+    }
+
+    // After, repeat request with the same token: served from the verified-token cache
+    @Benchmark
+    public Claims cachedClaims() {
+        return jwtUtil.extractAllClaims(token);
+    }
+
+    // After, a token the full cache has not seen: verification plus trimming the cache now and then
+    @Benchmark
+    public Claims missOnFullCache() {
+        String next = distinctTokens[nextToken];
+        nextToken = (nextToken + 1) % distinctTokens.length;
+        return jwtUtil.extractAllClaims(next);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Benchmarks.run(JwtUtilBenchmark.class.getSimpleName());
+    }
+}
@@ -0,0 +1,113 @@
+package edu.ucf.college_event_website.benchmark;
+
+import edu.ucf.college_event_website.dto.UserSummaryResponse;
+import edu.ucf.college_event_website.model.College;
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.service.UserSearchService;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Time to answer a typeahead query (GET /api/users/search) from the n-gram index,
+ * with every user in one college so each query scans that college's full postings.
+ * Names are drawn from small pools, so common prefixes and trigrams have long posting lists.
+ * The current user comes from a Mockito stub, a small constant cost on every call.
+ * Run with: ./mvnw -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.benchmark.UserSearchBenchmark
+ * At a million users: -Dexec.mainClass=edu.ucf.college_event_website.benchmark.Benchmarks
+ *   -Dexec.args="UserSearchBenchmark -p users=1000000 -jvmArgsAppend -Xmx3g"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class UserSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Jamie", "Alex", "Riley", "Taylor", "Jordan", "Casey", "Morgan",
+            "Avery", "Quinn", "Parker", "Sage", "Rowan", "Hayden", "Emerson", "Dakota", "Skyler"};
+
+    private static final String[] LAST_NAMES = {"Knight", "Garcia", "Nguyen", "Smith", "Johnson", "Williams",
+            "Brown", "Jones", "Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson",
+            "Thomas", "Moore", "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Clark", "Lewis"};
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private UserSearchService userSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        College college = new College();
+        college.setId(1L);
+
+        User current = new User();
+        current.setId(0L);
+        current.setCollege(college);
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        when(securityUtils.getCurrentUser()).thenReturn(current);
+
+        userSearchService = new UserSearchService();
+        ReflectionTestUtils.setField(userSearchService, "securityUtils", securityUtils);
+
+        Random random = new Random(42);
+        for (long id = 1; id <= users; id++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            User user = new User();
+            user.setId(id);
+            user.setEmail(first.toLowerCase() + "." + last.toLowerCase() + id + "@ucf.edu");
+            user.setFirstName(first);
+            user.setLastName(last);
+            user.setRole(Role.STUDENT);
+            user.setCollege(college);
+            userSearchService.index(user);
+        }
+    }
+
+    // Two typed characters: answered from the "^xy" prefix postings
+    @Benchmark
+    public List<UserSummaryResponse> shortPrefix() {
+        return userSearchService.searchUsers("ja", null, 0, 20);
+    }
+
+    // A full first name shared by about 1 in 16 users
+    @Benchmark
+    public List<UserSummaryResponse> commonName() {
+        return userSearchService.searchUsers("jordan", null, 0, 20);
+    }
+
+    // Contained in the middle of names only: walks the trigram postings
+    @Benchmark
+    public List<UserSummaryResponse> infix() {
+        return userSearchService.searchUsers("rnand", null, 0, 20);
+    }
+
+    // Deep page: skips 1,000 matches before filling the page (at 10,000 users there are fewer, so it walks them all)
+    @Benchmark
+    public List<UserSummaryResponse> deepPage() {
+        return userSearchService.searchUsers("jordan", null, 50, 20);
+    }
+
+    // Nothing matches: every Knight is a prefix candidate that has to be ruled out
+    @Benchmark
+    public List<UserSummaryResponse> noMatch() {
+        return userSearchService.searchUsers("knightly", null, 0, 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Benchmarks.run(UserSearchBenchmark.class.getSimpleName());
+    }
+}
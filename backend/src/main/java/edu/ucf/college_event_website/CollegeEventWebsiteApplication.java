@@ -2,12 +2,33 @@ package edu.ucf.college_event_website;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @SpringBootApplication
+@EnableScheduling
 public class CollegeEventWebsiteApplication {
 
+	// Startup steps kept for the timeline, later steps are dropped
+	private static final int STARTUP_STEPS = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(CollegeEventWebsiteApplication.class, args);
+		SpringApplication application = new SpringApplication(CollegeEventWebsiteApplication.class);
+		// Record the startup steps (bean creation, JPA bootstrap, ...) for /actuator/startup
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		// Lowest-priority defaults, any external configuration overrides them
+		application.setDefaultProperties(Map.of(
+				"management.endpoints.web.exposure.include", "health,info,metrics,prometheus,startup",
+				// Liveness and readiness probes, readiness waits for the JIT warm-up
+				"management.endpoint.health.probes.enabled", "true",
+				"management.endpoint.health.group.readiness.include", "readinessState,jitWarmup",
+				// Behind a proxy the client address comes from X-Forwarded-For, which Tomcat only
+				// accepts from internal (private network) proxies, so rate limits key on the real client
+				"server.forward-headers-strategy", "native"
+		));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,147 @@
+package edu.ucf.college_event_website.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many API requests run at once at what the connection pool can serve, and queues the rest
+ * fairly here instead of on Hikari's connection acquisition.
+ * With virtual threads (spring.threads.virtual.enabled) Tomcat's thread pool no longer caps concurrency,
+ * so without this thousands of requests would wait on the pool and time out together. The limiter is on by
+ * default in that mode. Requests that find the queue full, or wait longer than the timeout, get 503.
+ * With Open Session In View a request holds its connection from its first query until the response is
+ * written, so the default is one permit per pooled connection.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class DatabaseConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.db-concurrency.enabled:${spring.threads.virtual.enabled:false}}")
+    private boolean enabled;
+
+    // Requests allowed to run at once (0 = the connection pool's maximum size)
+    @Value("${app.db-concurrency.max-concurrent:0}")
+    private int maxConcurrent;
+
+    // Requests allowed to wait for a permit, any more are rejected at once
+    @Value("${app.db-concurrency.max-waiting:2000}")
+    private int maxWaiting;
+
+    // Longest a request waits for a permit
+    @Value("${app.db-concurrency.timeout-ms:3000}")
+    private long timeoutMs;
+
+    @Value("${app.db-concurrency.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private Semaphore permits;
+    private int limit;
+    private Timer waitTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        limit = maxConcurrent > 0 ? maxConcurrent : poolSize();
+        permits = new Semaphore(limit, true);
+
+        Gauge.builder("db.concurrency.active", permits, semaphore -> limit - semaphore.availablePermits())
+                .description("API requests holding a database concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("db.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("API requests waiting for a database concurrency permit")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("db.concurrency.wait")
+                .description("Time spent waiting for a database concurrency permit")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("db.concurrency.rejected")
+                .description("API requests refused because too many were waiting or the wait timed out")
+                .register(meterRegistry);
+    }
+
+    // Only API requests touch the database, health checks and metrics must never queue
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejectedCounter.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server busy, please try again shortly\"}");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Wait for a permit in arrival order, unless the queue is already full
+    private boolean acquire() {
+        if (permits.getQueueLength() >= maxWaiting) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Hikari reports -1 until its pool starts unless a size was configured, and then uses its default
+    private int poolSize() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int configured = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                if (configured > 0) {
+                    return configured;
+                }
+            }
+        } catch (SQLException e) {
+            // Not a Hikari pool, use Hikari's default size
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
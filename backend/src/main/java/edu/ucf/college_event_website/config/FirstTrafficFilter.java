@@ -0,0 +1,79 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.util.FirstTrafficRecorder;
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times the first app.first-traffic.requests API requests real clients send after startup and logs
+ * their p50/p99 once, next to the JIT warm-up's own last p99. Comparing first_traffic_done between a
+ * start with the warm-up and one with app.jit-warmup.enabled=false shows what the warm-up saves users.
+ * Warm-up requests are not counted. Runs ahead of the security filters, so authentication is timed too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class FirstTrafficFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(FirstTrafficFilter.class);
+
+    @Autowired
+    private WarmupTraffic warmupTraffic;
+
+    @Autowired
+    private JitWarmup jitWarmup;
+
+    // Requests timed, 0 turns the filter off
+    @Value("${app.first-traffic.requests:1000}")
+    private int requests;
+
+    private FirstTrafficRecorder recorder;
+
+    @PostConstruct
+    public void init() {
+        recorder = new FirstTrafficRecorder(Math.max(0, requests));
+    }
+
+    public FirstTrafficRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorder.isFull() || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Decided up front: a warm-up request still running when the warm-up ends no longer carries a valid key
+        boolean warmupRequest = warmupTraffic.isWarmup(request);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!warmupRequest && recorder.record(System.nanoTime() - start)) {
+                JitWarmup.Report warmup = jitWarmup.getReport();
+                log.info("first_traffic_done requests={} p50_ms={} p99_ms={} max_ms={} warmup_last_p99_ms={}",
+                        recorder.capacity(),
+                        String.format("%.2f", recorder.percentileMs(0.50)),
+                        String.format("%.2f", recorder.percentileMs(0.99)),
+                        String.format("%.2f", recorder.percentileMs(1.0)),
+                        warmup == null ? "n/a" : String.format("%.2f", warmup.lastP99Ms()));
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.PublicEventRepository;
+import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.util.JwtUtil;
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only requests through the real HTTP stack (JWT filter, controllers, services, JSON writing)
+ * once the application has started, so the JIT compiles the hot paths before users arrive instead of
+ * while serving their first requests. Runs until the configured number of requests is sent or the
+ * time budget runs out, whichever comes first, then waits for the requests still in flight.
+ * Readiness stays OUT_OF_SERVICE while it runs: the application adds this indicator to the readiness group.
+ * Requests are GETs sent as a real account, app.jit-warmup.user-email (a student is enough). With the
+ * warm-up enabled, startup fails if that is unset or names no account: set it, or turn the warm-up off.
+ * They carry the WarmupTraffic key, so they are left out of the metrics.
+ * Reports the p99 of its own first requests against its own last ones: how much the JIT sped up the
+ * warm-up paths. What real users see is logged by FirstTrafficFilter.
+ */
+@Component
+public class JitWarmup implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(JitWarmup.class);
+
+    // Read-only GETs, {id} is replaced by the ID of an approved public event
+    private static final List<String> DEFAULT_PATHS = List.of(
+            "/api/events",
+            "/api/events/{id}",
+            "/api/events/filter/type/PUBLIC",
+            "/api/leaderboards/top-rated",
+            "/api/leaderboards/most-discussed",
+            "/api/colleges");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private WarmupTraffic warmupTraffic;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PublicEventRepository publicEventRepository;
+
+    @Value("${app.jit-warmup.enabled:true}")
+    private boolean enabled;
+
+    // Account the requests are sent as, required while the warm-up is enabled
+    @Value("${app.jit-warmup.user-email:}")
+    private String userEmail;
+
+    // Paths requested in turn, the defaults above when empty. Paths under /api/auth are ignored.
+    @Value("${app.jit-warmup.paths:}")
+    private List<String> paths;
+
+    // Stop after this many requests
+    @Value("${app.jit-warmup.requests:5000}")
+    private int requests;
+
+    // Or after this long, whichever comes first
+    @Value("${app.jit-warmup.time-budget-ms:30000}")
+    private long timeBudgetMs;
+
+    // Requests in flight at once
+    @Value("${app.jit-warmup.concurrency:4}")
+    private int concurrency;
+
+    // Requests of the warm-up compared at each end of its run for the p99 report
+    @Value("${app.jit-warmup.sample-size:200}")
+    private int sampleSize;
+
+    // New token every this many requests, so token verification is warmed up too, not just the token cache
+    @Value("${app.jit-warmup.requests-per-token:10}")
+    private int requestsPerToken;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    private volatile boolean started;
+    // No web server to send requests to (tests with a mock environment)
+    private volatile boolean skipped;
+    private volatile Report report;
+
+    // What the warm-up measured, on its own requests only
+    public record Report(int requests, int errors, long elapsedMs, double firstP99Ms, double lastP99Ms) {
+    }
+
+    // Start once the application reports ready, after every ApplicationReadyEvent listener has loaded its caches.
+    // A missing account is thrown from here, which makes the application fail to start.
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || !enabled || started) {
+            return;
+        }
+        started = true;
+        WebServer webServer = applicationContext instanceof WebServerApplicationContext web ? web.getWebServer() : null;
+        if (webServer == null) {
+            skipped = true;
+            return;
+        }
+        if (userEmail.isBlank()) {
+            throw new IllegalStateException("The JIT warm-up is enabled but app.jit-warmup.user-email is not set: "
+                    + "set it to an account the warm-up can read events as, or set app.jit-warmup.enabled=false");
+        }
+        User user = userRepository.findByEmailWithCollege(userEmail)
+                .orElseThrow(() -> new IllegalStateException("JIT warm-up account " + userEmail + " not found: "
+                        + "create it, or set app.jit-warmup.enabled=false"));
+        int port = webServer.getPort();
+        Thread.ofPlatform().name("jit-warmup").daemon().start(() -> warmUp(port, user));
+    }
+
+    @Override
+    public Health health() {
+        Report result = report;
+        if (!enabled || skipped) {
+            return Health.up().withDetail("state", enabled ? "skipped" : "disabled").build();
+        }
+        if (result == null) {
+            // Also before it starts, so readiness never flips up between the application and the warm-up
+            return Health.outOfService().withDetail("state", "warming up").build();
+        }
+        return Health.up()
+                .withDetail("state", "done")
+                .withDetail("requests", result.requests())
+                .withDetail("errors", result.errors())
+                .withDetail("elapsedMs", result.elapsedMs())
+                .withDetail("firstP99Ms", result.firstP99Ms())
+                .withDetail("lastP99Ms", result.lastP99Ms())
+                .build();
+    }
+
+    public Report getReport() {
+        return report;
+    }
+
+    private void warmUp(int port, User user) {
+        try {
+            report = run(port, user);
+            log.info("jit_warmup_done requests={} errors={} elapsed_ms={} first_p99_ms={} last_p99_ms={} speedup={}",
+                    report.requests(), report.errors(), report.elapsedMs(),
+                    String.format("%.2f", report.firstP99Ms()), String.format("%.2f", report.lastP99Ms()),
+                    report.lastP99Ms() > 0 ? String.format("%.1fx", report.firstP99Ms() / report.lastP99Ms()) : "n/a");
+        } catch (RuntimeException e) {
+            // Never hold readiness back because the warm-up failed
+            log.warn("jit_warmup_failed error=\"{}\"", e.getMessage(), e);
+            report = new Report(0, 0, 0, 0, 0);
+        } finally {
+            warmupTraffic.close();
+        }
+    }
+
+    private Report run(int port, User user) {
+        List<Long> eventIds = publicEventRepository.findApprovedIds(Limit.of(100));
+        List<String> targets = (paths.isEmpty() ? DEFAULT_PATHS : paths).stream()
+                .filter(path -> !path.startsWith("/api/auth"))
+                .filter(path -> !path.contains("{id}") || !eventIds.isEmpty())
+                .toList();
+        if (targets.isEmpty()) {
+            throw new IllegalStateException("No paths to warm up");
+        }
+        String baseUrl = "http://localhost:" + port + contextPath;
+        String key = warmupTraffic.open();
+        // Each token serves a handful of requests, so it only has to outlive those
+        long tokenLifetime = Duration.ofMinutes(1).toMillis();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofMillis(timeBudgetMs).toNanos();
+        // Readiness waits for the requests in flight at the deadline: one abandoned by the client would
+        // keep running on the server, and would compete with the first real requests
+        Duration requestTimeout = Duration.ofMillis(Math.max(timeBudgetMs, 10_000));
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+             ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.execute(() -> {
+                    String token = null;
+                    int i;
+                    while (System.nanoTime() < deadline && (i = next.getAndIncrement()) < requests) {
+                        if (token == null || i % requestsPerToken == 0) {
+                            token = jwtUtil.generateToken(user, tokenLifetime);
+                        }
+                        String path = targets.get(i % targets.size())
+                                .replace("{id}", String.valueOf(eventIds.isEmpty() ? 0 : eventIds.get(i % eventIds.size())));
+                        long sent = System.nanoTime();
+                        if (!send(client, URI.create(baseUrl + path), token, key, requestTimeout)) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+
+        int sent = Math.min(next.get(), requests);
+        int sample = Math.min(sampleSize, sent / 2);
+        return new Report(sent, errors.get(), Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                p99Ms(latencies, 0, sample), p99Ms(latencies, sent - sample, sent));
+    }
+
+    // True for a 2xx response
+    private static boolean send(HttpClient client, URI uri, String token, String key, Duration timeout) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(WarmupTraffic.HEADER, key)
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static double p99Ms(long[] latencies, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOfRange(latencies, from, to);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(sorted.length * 0.99) - 1;
+        return sorted[index] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.util.JsonFragments;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes JsonFragments responses as a JSON array, copying the encoded elements to the response stream
+ */
+public class JsonFragmentsHttpMessageConverter extends AbstractHttpMessageConverter<JsonFragments> {
+
+    public JsonFragmentsHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonFragments.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        // Response only
+        return false;
+    }
+
+    @Override
+    protected JsonFragments readInternal(Class<? extends JsonFragments> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JSON fragments are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(JsonFragments fragments, MediaType contentType) {
+        return fragments.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(JsonFragments fragments, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        body.write('[');
+        boolean first = true;
+        for (byte[] element : fragments.elements()) {
+            if (!first) {
+                body.write(',');
+            }
+            body.write(element);
+            first = false;
+        }
+        body.write(']');
+    }
+}
@@ -1,6 +1,12 @@
 package edu.ucf.college_event_website.config;
 
+import edu.ucf.college_event_website.service.TokenRevocationService;
 import edu.ucf.college_event_website.util.JwtUtil;
+import edu.ucf.college_event_website.util.UserStalenessRegistry;
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +24,7 @@ import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
@@ -37,6 +44,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserStalenessRegistry userStalenessRegistry;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WarmupTraffic warmupTraffic;
+
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        verifiedTimer = Timer.builder("auth.jwt.verify")
+                .description("Time to verify a bearer token (signature, expiry, claims)")
+                .tag("outcome", "verified")
+                .register(meterRegistry);
+        rejectedTimer = Timer.builder("auth.jwt.verify")
+                .description("Time to verify a bearer token (signature, expiry, claims)")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
     // Core filter method that processes each request
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -48,33 +82,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Only process if we have a token and authentication is not already set
         if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                // Extract username from token
-                String username = jwtUtil.extractUsername(jwt);
-
-                if (StringUtils.hasText(username)) {
-                    // Load user details from database
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                    // Validate token
-                    if (jwtUtil.validateToken(jwt, userDetails)) {
-                        // Create authentication object
-                        Claims claims = jwtUtil.extractAllClaims(jwt);
-                        List<String> roles = claims.get("roles", List.class);
-
-                        List<GrantedAuthority> authorities = roles.stream()
-                                .map(role -> new SimpleGrantedAuthority("ROLE_" + role)) // ✅ Spring requires "ROLE_" prefix
-                                .collect(Collectors.toList());
-
-
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
-
-                        // Add request details to authentication
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                        // Set authentication in the security context
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
+                // Verify the signature and expiration once, everything else comes from the claims
+                Claims claims = verify(jwt, !warmupTraffic.isWarmup(request));
+                JwtPrincipal principal = JwtPrincipal.fromClaims(claims);
+
+                if (jwtUtil.isRefreshToken(claims) || tokenRevocationService.isRevoked(claims.getId())) {
+                    // Refresh tokens only work on /api/auth/refresh, revoked tokens nowhere
+                    logger.debug("Ignoring refresh or revoked token");
+                } else if (principal == null) {
+                    // Token from before the user claims were added, fall back to the database
+                    authenticateFromDatabase(claims, request);
+                } else if (!userStalenessRegistry.isStale(principal.getUserId(), claims.getIssuedAt())) {
+                    List<String> roles = claims.get("roles", List.class);
+
+                    List<GrantedAuthority> authorities = roles.stream()
+                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role)) // ✅ Spring requires "ROLE_" prefix
+                            .collect(Collectors.toList());
+
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(principal, null, authorities);
+
+                    // Add request details to authentication
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    // Set authentication in the security context
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             } catch (Exception e) {
                 logger.error("Could not set user authentication in security context", e);
@@ -85,6 +117,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Verify and time the token, unless the request came from the JIT warm-up
+    private Claims verify(String jwt, boolean timed) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = jwtUtil.extractAllClaims(jwt);
+            if (timed) {
+                verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return claims;
+        } catch (RuntimeException e) {
+            if (timed) {
+                rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            throw e;
+        }
+    }
+
+    private void authenticateFromDatabase(Claims claims, HttpServletRequest request) {
+        String username = claims.getSubject();
+        if (!StringUtils.hasText(username)) {
+            return;
+        }
+
+        // Load user details from database
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
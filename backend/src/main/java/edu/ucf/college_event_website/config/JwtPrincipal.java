@@ -0,0 +1,35 @@
+package edu.ucf.college_event_website.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Authenticated user built from the signed claims of a JWT, so requests
+ * can be authenticated without loading the user from the database.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal implements AuthenticatedPrincipal {
+    private final String email;
+    private final Long userId;
+    private final String role;
+    private final Long collegeId;
+
+    // Returns null for tokens issued before the user claims were added
+    public static JwtPrincipal fromClaims(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new JwtPrincipal(claims.getSubject(), userId, role, claims.get("collegeId", Long.class));
+    }
+
+    // Spring Security uses the email as the principal name
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,111 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.util.SqlStatementCounter;
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.observation.ObservationPredicate;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Metrics that Spring Boot does not set up on its own: percentile histograms for the latency
+ * meters (so percentiles are aggregated by the monitoring system, not computed per request here),
+ * Hibernate statistics, and the statement counter behind the per-request SQL counts.
+ * Requests sent by the JIT warm-up are not observed, so they stay out of http.server.requests.
+ * Exposed on /actuator/metrics and /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Meters recorded as histograms, with the range their buckets cover (timers in nanoseconds)
+    private static final List<HistogramRange> HISTOGRAMS = List.of(
+            new HistogramRange("http.server.requests", nanos(Duration.ofMillis(1)), nanos(Duration.ofSeconds(10))),
+            new HistogramRange("service.method", nanos(Duration.ofMillis(1)), nanos(Duration.ofSeconds(10))),
+            new HistogramRange("hikaricp.connections.acquire", nanos(Duration.ofNanos(100_000)), nanos(Duration.ofSeconds(30))),
+            new HistogramRange("auth.jwt.verify", nanos(Duration.ofNanos(10_000)), nanos(Duration.ofMillis(100))),
+            new HistogramRange("http.server.requests.sql", 1, 500)
+    );
+
+    @Bean
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                for (HistogramRange range : HISTOGRAMS) {
+                    if (id.getName().equals(range.name())) {
+                        return DistributionStatisticConfig.builder()
+                                .percentilesHistogram(true)
+                                .minimumExpectedValue(range.min())
+                                .maximumExpectedValue(range.max())
+                                .build()
+                                .merge(config);
+                    }
+                }
+                return config;
+            }
+        };
+    }
+
+    // No observations (request timings, security filter timings) for the JIT warm-up's requests
+    @Bean
+    public ObservationPredicate ignoreWarmupRequests(WarmupTraffic warmupTraffic) {
+        return (name, context) -> context instanceof ServerRequestObservationContext request
+                ? !warmupTraffic.isWarmup(request.getCarrier())
+                : !warmupTraffic.isCurrentRequestWarmup();
+    }
+
+    // Turn on Hibernate statistics and count statements per request
+    @Bean
+    public HibernatePropertiesCustomizer hibernateMetricsProperties() {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+        };
+    }
+
+    // Application-wide Hibernate counters
+    @Bean
+    public MeterBinder hibernateStatistics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            counter(registry, "hibernate.statements.prepared", statistics, Statistics::getPrepareStatementCount);
+            counter(registry, "hibernate.queries.executed", statistics, Statistics::getQueryExecutionCount);
+            counter(registry, "hibernate.entities.loaded", statistics, Statistics::getEntityLoadCount);
+            counter(registry, "hibernate.entities.fetched", statistics, Statistics::getEntityFetchCount);
+            counter(registry, "hibernate.collections.fetched", statistics, Statistics::getCollectionFetchCount);
+            counter(registry, "hibernate.flushes", statistics, Statistics::getFlushCount);
+            counter(registry, "hibernate.transactions", statistics, Statistics::getTransactionCount);
+            Gauge.builder("hibernate.queries.max.time", statistics, Statistics::getQueryExecutionMaxTime)
+                    .description("Slowest query since startup, in milliseconds")
+                    .register(registry);
+        };
+    }
+
+    private static void counter(MeterRegistry registry, String name,
+                                Statistics statistics, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value).register(registry);
+    }
+
+    private static double nanos(Duration duration) {
+        return duration.toNanos();
+    }
+
+    private record HistogramRange(String name, double min, double max) {
+    }
+}
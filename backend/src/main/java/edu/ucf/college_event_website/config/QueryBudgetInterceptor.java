@@ -0,0 +1,61 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.SqlStatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Checks each request against the @QueryBudget of its controller method.
+ * The count comes from SqlMetricsFilter, so it covers the whole request: authentication,
+ * the handler, and lazy loads while the response is written (Open Session In View).
+ * In fail mode the statement that goes over the budget throws, so the request fails with 500.
+ */
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    // Request attributes holding the budget and endpoint name of the current request
+    private static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".budget";
+    private static final String NAME_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".name";
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            return true;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String name = request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+        request.setAttribute(BUDGET_ATTRIBUTE, budget.value());
+        request.setAttribute(NAME_ATTRIBUTE, name);
+
+        if (queryBudgetMonitor.isFailOnExceed()) {
+            SqlStatementCounter.failAbove(budget.value(), name);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(BUDGET_ATTRIBUTE) instanceof Integer budget)) {
+            return;
+        }
+        int statements = SqlStatementCounter.current();
+        if (statements > budget) {
+            queryBudgetMonitor.exceeded("request", (String) request.getAttribute(NAME_ATTRIBUTE), budget, statements);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package edu.ucf.college_event_website.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports requests and service calls that ran more SQL statements than their @QueryBudget.
+ * Each overrun is logged as one key=value line (easy to grep and to parse in log search)
+ * and counted as sql.budget.exceeded, tagged with the scope and the endpoint or method.
+ */
+@Component
+public class QueryBudgetMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetMonitor.class);
+
+    // Fail instead of warning, meant for tests
+    @Value("${app.query-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public boolean isFailOnExceed() {
+        return failOnExceed;
+    }
+
+    // Log and count an overrun (scope is "request" or "service")
+    public void exceeded(String scope, String name, int budget, int statements) {
+        log.warn("query_budget_exceeded scope={} name=\"{}\" budget={} statements={} over={}",
+                scope, name, budget, statements, statements - budget);
+        counters.computeIfAbsent(scope + " " + name, key -> Counter.builder("sql.budget.exceeded")
+                .description("Requests and service calls that ran more SQL statements than their budget")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)).increment();
+    }
+}
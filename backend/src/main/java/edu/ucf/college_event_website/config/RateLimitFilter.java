@@ -0,0 +1,160 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.util.JwtUtil;
+import edu.ucf.college_event_website.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Rejects requests over their route group's rate with 429 before the JWT filter runs,
+ * so a credential-stuffing or spam burst never reaches BCrypt or the database.
+ * Auth endpoints are limited per client IP, comment and rating writes per IP and per user.
+ * The client IP is request.getRemoteAddr(), which server.forward-headers-strategy=native resolves from
+ * X-Forwarded-For when the request came through a trusted (internal) proxy. Any other proxy in front of
+ * the application must be added to server.tomcat.remoteip.internal-proxies, otherwise every client
+ * behind it shares the proxy's bucket.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // Maximum number of clients tracked per route group
+    @Value("${app.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    // Login, signup and token verification
+    @Value("${app.rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${app.rate-limit.auth.refill-per-minute:20}")
+    private int authRefillPerMinute;
+
+    // Creating, editing and deleting comments and ratings
+    @Value("${app.rate-limit.writes.capacity:20}")
+    private int writeCapacity;
+
+    @Value("${app.rate-limit.writes.refill-per-minute:30}")
+    private int writeRefillPerMinute;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private List<RouteGroup> routeGroups;
+
+    @PostConstruct
+    public void init() {
+        routeGroups = List.of(
+                new RouteGroup("auth", List.of("/api/auth/**"), false,
+                        new RateLimiter(authCapacity, authRefillPerMinute, maxKeys), null),
+                new RouteGroup("writes", List.of("/api/events/*/comments/**", "/api/events/*/ratings/**"), true,
+                        new RateLimiter(writeCapacity, writeRefillPerMinute, maxKeys),
+                        new RateLimiter(writeCapacity, writeRefillPerMinute, maxKeys)));
+        for (RouteGroup group : routeGroups) {
+            group.rejected = Counter.builder("http.server.requests.rate_limited")
+                    .tag("group", group.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteGroup group = enabled ? findGroup(request) : null;
+        if (group != null) {
+            long retryAfter = group.byIp.tryAcquire(request.getRemoteAddr());
+
+            if (retryAfter == 0 && group.byUser != null) {
+                String user = getUser(request);
+                if (user != null) {
+                    retryAfter = group.byUser.tryAcquire(user);
+                }
+            }
+
+            if (retryAfter > 0) {
+                group.rejected.increment();
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"Too many requests\"}");
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteGroup findGroup(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean isRead = "GET".equals(request.getMethod()) || "OPTIONS".equals(request.getMethod())
+                || "HEAD".equals(request.getMethod());
+        for (RouteGroup group : routeGroups) {
+            if (group.writesOnly && isRead) {
+                continue;
+            }
+            for (String pattern : group.patterns) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Email from the bearer token. The verified claims are cached by JwtUtil,
+    // so the JWT filter that runs next gets them without verifying again.
+    private String getUser(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtUtil.extractUsername(bearerToken.substring(7));
+        } catch (Exception e) {
+            // Invalid token, the request will be rejected as unauthenticated anyway
+            return null;
+        }
+    }
+
+    private static final class RouteGroup {
+        private final String name;
+        private final List<String> patterns;
+        private final boolean writesOnly;
+        private final RateLimiter byIp;
+        private final RateLimiter byUser;
+        private Counter rejected;
+
+        // byUser is null for groups limited by IP only
+        private RouteGroup(String name, List<String> patterns, boolean writesOnly,
+                           RateLimiter byIp, RateLimiter byUser) {
+            this.name = name;
+            this.patterns = patterns;
+            this.writesOnly = writesOnly;
+            this.byIp = byIp;
+            this.byUser = byUser;
+        }
+    }
+}
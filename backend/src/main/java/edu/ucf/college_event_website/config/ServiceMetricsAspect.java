@@ -0,0 +1,108 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.exception.QueryBudgetExceededException;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.SqlStatementCounter;
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of every @Service in the service package (service.method)
+ * and counts the ones that throw (service.method.errors, tagged with the exception).
+ * Also records the SQL statements each call ran (service.method.sql, nested calls included)
+ * and checks them against the method's @QueryBudget, if it has one.
+ * Meters are looked up once per method and cached, so a call costs two nanoTime reads
+ * and two histogram updates.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @Autowired
+    private WarmupTraffic warmupTraffic;
+
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Method, DistributionSummary> statementSummaries = new ConcurrentHashMap<>();
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * edu.ucf.college_event_website.service..*(..)) " +
+            "&& @within(org.springframework.stereotype.Service)")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        // The JIT warm-up's requests are left out of the service metrics
+        if (warmupTraffic.isCurrentRequestWarmup()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        // Outside a request (startup, scheduled jobs) the outermost service call does the counting
+        boolean ownsCount = !SqlStatementCounter.isCounting();
+        if (ownsCount) {
+            SqlStatementCounter.start();
+        }
+        int statementsBefore = SqlStatementCounter.current();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            checkBudget(method, SqlStatementCounter.current() - statementsBefore);
+            return result;
+        } catch (Throwable e) {
+            errorCounters.computeIfAbsent(new ErrorKey(method, e.getClass()), key -> Counter.builder("service.method.errors")
+                    .tag("class", method.getDeclaringClass().getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)).increment();
+            throw e;
+        } finally {
+            timers.computeIfAbsent(method, m -> Timer.builder("service.method")
+                    .tag("class", m.getDeclaringClass().getSimpleName())
+                    .tag("method", m.getName())
+                    .register(meterRegistry)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            int statements = SqlStatementCounter.current() - statementsBefore;
+            if (ownsCount) {
+                SqlStatementCounter.stop();
+            }
+            statementSummaries.computeIfAbsent(method, m -> DistributionSummary.builder("service.method.sql")
+                    .description("SQL statements run per service call")
+                    .tag("class", m.getDeclaringClass().getSimpleName())
+                    .tag("method", m.getName())
+                    .register(meterRegistry)).record(statements);
+        }
+    }
+
+    // Report a successful call that went over its budget (and fail it in fail mode)
+    private void checkBudget(Method method, int statements) {
+        QueryBudget budget = method.getAnnotation(QueryBudget.class);
+        if (budget == null || statements <= budget.value()) {
+            return;
+        }
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        queryBudgetMonitor.exceeded("service", name, budget.value(), statements);
+        if (queryBudgetMonitor.isFailOnExceed()) {
+            throw new QueryBudgetExceededException(name, budget.value(), statements);
+        }
+    }
+
+    private record ErrorKey(Method method, Class<?> exception) {
+    }
+}
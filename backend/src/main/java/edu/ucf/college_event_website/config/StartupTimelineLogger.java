@@ -0,0 +1,54 @@
+package edu.ucf.college_event_website.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Logs the time to ready and the beans that took longest to create, so startup regressions
+ * show up in the logs of every deployment. The full timeline is served at /actuator/startup.
+ * A bean's time includes creating the beans it depends on.
+ * Only when started through main, which records the timeline (tests and benchmarks do not).
+ */
+@Component
+public class StartupTimelineLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineLogger.class);
+
+    @Value("${app.startup.slowest-beans:10}")
+    private int slowestBeans;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logTimeline(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        log.info("startup_ready time_to_ready_ms={}",
+                event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis());
+
+        // Reading the buffered timeline leaves it in place for the endpoint
+        startup.getBufferedTimeline().getEvents().stream()
+                .filter(step -> "spring.beans.instantiate".equals(step.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestBeans)
+                .forEach(step -> log.info("startup_slow_bean bean=\"{}\" ms={}",
+                        beanName(step.getStartupStep()), step.getDuration().toMillis()));
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "unknown";
+    }
+}
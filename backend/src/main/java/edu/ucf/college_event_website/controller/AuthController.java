@@ -8,6 +8,7 @@ import edu.ucf.college_event_website.model.User;
 import edu.ucf.college_event_website.repository.UserRepository;
 import edu.ucf.college_event_website.service.AuthService;
 import edu.ucf.college_event_website.util.JwtUtil;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,6 +33,7 @@ public class AuthController {
 
 
     @PostMapping("/signup")
+    @QueryBudget(6)
     public ResponseEntity<?> registerUser(@RequestBody SignupRequest signupRequest) {
         AuthResponse authResponse = authService.registerUser(signupRequest);
         return ResponseEntity.ok(authResponse);
@@ -39,13 +41,37 @@ public class AuthController {
 
 
     @PostMapping("/login")
+    @QueryBudget(4)
     public ResponseEntity<?> loginUser(@RequestBody LoginRequest loginRequest) {
         AuthResponse authResponse = authService.loginUser(loginRequest);
         return ResponseEntity.ok(authResponse);
     }
 
 
+    @PostMapping("/refresh")
+    @QueryBudget(6)
+    public ResponseEntity<?> refreshToken(@RequestBody TokenVerificationRequest request) {
+        AuthResponse authResponse = authService.refreshToken(request.getToken());
+        return ResponseEntity.ok(authResponse);
+    }
+
+
+    @PostMapping("/logout")
+    @QueryBudget(6)
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) TokenVerificationRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        String refreshToken = request != null ? request.getToken() : null;
+
+        authService.logout(accessToken, refreshToken);
+        return ResponseEntity.noContent().build();
+    }
+
+
     @PostMapping("/verify")
+    @QueryBudget(6)
     public ResponseEntity<?> verifyToken(@RequestBody TokenVerificationRequest request) {
         String token = request.getToken();
 
@@ -0,0 +1,23 @@
+package edu.ucf.college_event_website.controller;
+
+import edu.ucf.college_event_website.dto.CollegeAnalyticsResponse;
+import edu.ucf.college_event_website.service.CollegeAnalyticsService;
+import edu.ucf.college_event_website.util.QueryBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/colleges")
+public class CollegeAnalyticsController {
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    // Dashboard counts for a college (its admins and super admins)
+    @GetMapping("/{collegeId}/analytics")
+    @QueryBudget(3)
+    public ResponseEntity<CollegeAnalyticsResponse> getCollegeAnalytics(@PathVariable Long collegeId) {
+        return ResponseEntity.ok(collegeAnalyticsService.getCollegeAnalytics(collegeId));
+    }
+}
@@ -3,13 +3,14 @@ package edu.ucf.college_event_website.controller;
 import edu.ucf.college_event_website.dto.CollegeRequest;
 import edu.ucf.college_event_website.dto.CollegeResponse;
 import edu.ucf.college_event_website.service.CollegeService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.nio.file.AccessDeniedException;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/colleges")
@@ -19,12 +20,17 @@ public class CollegeController {
 
     // Get all colleges
     @GetMapping
-    public ResponseEntity<List<CollegeResponse>> getAllColleges() {
-        return ResponseEntity.ok(collegeService.getAllColleges());
+    @QueryBudget(1)
+    public ResponseEntity<byte[]> getAllColleges() {
+        // Served as pre-serialized JSON from the college snapshot
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(collegeService.getAllCollegesJson());
     }
 
     // Get college by ID
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public ResponseEntity<CollegeResponse> getCollegeById(@PathVariable Long id) {
         return ResponseEntity.ok(collegeService.getCollegeById(id));
     }
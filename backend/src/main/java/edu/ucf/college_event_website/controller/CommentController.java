@@ -3,6 +3,7 @@ package edu.ucf.college_event_website.controller;
 import edu.ucf.college_event_website.dto.CommentRequest;
 import edu.ucf.college_event_website.dto.CommentResponse;
 import edu.ucf.college_event_website.service.CommentService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,12 +20,14 @@ public class CommentController {
 
     // Get all comments for an event
     @GetMapping
+    @QueryBudget(10)
     public ResponseEntity<List<CommentResponse>> getEventComments(@PathVariable Long eventId) {
         return ResponseEntity.ok(commentService.getCommentsByEventId(eventId));
     }
 
     // Add a comment to an event
     @PostMapping
+    @QueryBudget(10)
     public ResponseEntity<CommentResponse> addComment(
             @PathVariable Long eventId,
             @RequestBody CommentRequest request) {
@@ -34,6 +37,7 @@ public class CommentController {
 
     // Update a comment (if user is owner)
     @PutMapping("/{commentId}")
+    @QueryBudget(10)
     public ResponseEntity<CommentResponse> updateComment(
             @PathVariable Long eventId,
             @PathVariable Long commentId,
@@ -43,6 +47,7 @@ public class CommentController {
 
     // Delete a comment (if user is owner)
     @DeleteMapping("/{commentId}")
+    @QueryBudget(10)
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long eventId,
             @PathVariable Long commentId) {
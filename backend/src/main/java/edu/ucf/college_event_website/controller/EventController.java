@@ -5,16 +5,20 @@ import edu.ucf.college_event_website.dto.EventResponse;
 import edu.ucf.college_event_website.dto.EventUpdateRequest;
 import edu.ucf.college_event_website.model.EventType;
 import edu.ucf.college_event_website.service.EventService;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.JsonFragments;
+import edu.ucf.college_event_website.util.QueryBudget;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
@@ -28,18 +32,31 @@ public class EventController {
 
     // Get all events accessible to the user
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllAccessibleEvents() {
+    @QueryBudget(30)
+    public ResponseEntity<JsonFragments> getAllAccessibleEvents() {
         return ResponseEntity.ok(eventService.getEventsForCurrentUser());
     }
 
     // Get event by ID (if user has access)
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> getEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    @QueryBudget(12)
+    public ResponseEntity<byte[]> getEventById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // Served as pre-serialized JSON, gzipped too when enabled and the client accepts it
+        EventJsonCache.Fragment event = eventService.getEventJsonById(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (event.gzipped() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(event.gzipped());
+        }
+        return response.body(event.json());
     }
 
     // Create a new event (Admin only)
     @PostMapping
+    @QueryBudget(12)
     public ResponseEntity<EventResponse> createEvent(@RequestBody EventCreateRequest request) {
         // Check if user is an admin or super admin
         if (!securityUtils.hasRole("ADMIN") && !securityUtils.hasRole("SUPER_ADMIN")) {
@@ -50,6 +67,7 @@ public class EventController {
 
     // Update event (if user is owner and admin)
     @PutMapping("/{id}")
+    @QueryBudget(12)
     public ResponseEntity<EventResponse> updateEvent(
             @PathVariable Long id,
             @RequestBody EventUpdateRequest request) {
@@ -62,6 +80,7 @@ public class EventController {
 
     // Delete event (if user is owner and admin)
     @DeleteMapping("/{id}")
+    @QueryBudget(15)
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
         // Check if user is an admin or super admin
         if (!securityUtils.hasRole("ADMIN") && !securityUtils.hasRole("SUPER_ADMIN")) {
@@ -73,19 +92,22 @@ public class EventController {
 
     // Filter events by type
     @GetMapping("/filter/type/{eventType}")
-    public ResponseEntity<List<EventResponse>> getEventsByType(@PathVariable EventType eventType) {
+    @QueryBudget(30)
+    public ResponseEntity<JsonFragments> getEventsByType(@PathVariable EventType eventType) {
         return ResponseEntity.ok(eventService.getEventsByType(eventType));
     }
 
     // Filter events by college
     @GetMapping("/filter/college/{collegeId}")
-    public ResponseEntity<List<EventResponse>> getEventsByCollege(@PathVariable Long collegeId) {
+    @QueryBudget(30)
+    public ResponseEntity<JsonFragments> getEventsByCollege(@PathVariable Long collegeId) {
         return ResponseEntity.ok(eventService.getEventsByCollege(collegeId));
     }
 
     // Filter events by date range
     @GetMapping("/filter/date")
-    public ResponseEntity<List<EventResponse>> getEventsByDateRange(
+    @QueryBudget(30)
+    public ResponseEntity<JsonFragments> getEventsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         return ResponseEntity.ok(eventService.getEventsByDateRange(startDate, endDate));
@@ -0,0 +1,56 @@
+package edu.ucf.college_event_website.controller;
+
+import edu.ucf.college_event_website.service.EventService;
+import edu.ucf.college_event_website.service.LeaderboardService;
+import edu.ucf.college_event_website.util.JsonFragments;
+import edu.ucf.college_event_website.util.QueryBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+public class LeaderboardController {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private EventService eventService;
+
+    // Top rated events across all colleges
+    @GetMapping("/top-rated")
+    @QueryBudget(50)
+    public ResponseEntity<JsonFragments> getTopRated(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getAccessibleEventsInOrder(
+                leaderboardService.getTopRatedEventIds(null), limit));
+    }
+
+    // Most discussed events across all colleges
+    @GetMapping("/most-discussed")
+    @QueryBudget(50)
+    public ResponseEntity<JsonFragments> getMostDiscussed(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getAccessibleEventsInOrder(
+                leaderboardService.getMostDiscussedEventIds(null), limit));
+    }
+
+    // Top rated events at a college
+    @GetMapping("/colleges/{collegeId}/top-rated")
+    @QueryBudget(50)
+    public ResponseEntity<JsonFragments> getTopRatedByCollege(
+            @PathVariable Long collegeId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getAccessibleEventsInOrder(
+                leaderboardService.getTopRatedEventIds(collegeId), limit));
+    }
+
+    // Most discussed events at a college
+    @GetMapping("/colleges/{collegeId}/most-discussed")
+    @QueryBudget(50)
+    public ResponseEntity<JsonFragments> getMostDiscussedByCollege(
+            @PathVariable Long collegeId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getAccessibleEventsInOrder(
+                leaderboardService.getMostDiscussedEventIds(collegeId), limit));
+    }
+}
@@ -2,6 +2,7 @@ package edu.ucf.college_event_website.controller;
 
 import edu.ucf.college_event_website.model.Location;
 import edu.ucf.college_event_website.repository.LocationRepository;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ public class LocationController {
     private LocationRepository locationRepository;
 
     @PostMapping
+    @QueryBudget(2)
     public ResponseEntity<Location> createLocation(@RequestBody Location location) {
         Location saved = locationRepository.save(location);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
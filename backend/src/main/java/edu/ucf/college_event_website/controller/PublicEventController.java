@@ -1,7 +1,11 @@
 package edu.ucf.college_event_website.controller;
 
 import edu.ucf.college_event_website.dto.EventResponse;
+import edu.ucf.college_event_website.dto.PendingEventPageResponse;
+import edu.ucf.college_event_website.dto.PublicEventBulkRequest;
+import edu.ucf.college_event_website.dto.PublicEventBulkResponse;
 import edu.ucf.college_event_website.service.PublicEventService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,18 +21,44 @@ public class PublicEventController {
 
     // Get all pending public events (Super Admin only)
     @GetMapping("/pending")
+    @QueryBudget(3)
     public ResponseEntity<List<EventResponse>> getPendingPublicEvents() {
         return ResponseEntity.ok(publicEventService.getPendingPublicEvents());
     }
 
+    // Get one page of the approval queue, oldest first (Super Admin only)
+    @GetMapping("/pending/page")
+    @QueryBudget(2)
+    public ResponseEntity<PendingEventPageResponse> getPendingPublicEventsPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(publicEventService.getPendingPublicEventsPage(afterId, size));
+    }
+
+    // Approve many public events at once (Super Admin only)
+    @PostMapping("/approve")
+    @QueryBudget(4)
+    public ResponseEntity<PublicEventBulkResponse> approvePublicEvents(@RequestBody PublicEventBulkRequest request) {
+        return ResponseEntity.ok(publicEventService.approvePublicEvents(request.getEventIds()));
+    }
+
+    // Reject many public events at once (Super Admin only)
+    @PostMapping("/reject")
+    @QueryBudget(10)
+    public ResponseEntity<PublicEventBulkResponse> rejectPublicEvents(@RequestBody PublicEventBulkRequest request) {
+        return ResponseEntity.ok(publicEventService.rejectPublicEvents(request.getEventIds()));
+    }
+
     // Approve a public event (Super Admin only)
     @PutMapping("/{eventId}/approve")
+    @QueryBudget(10)
     public ResponseEntity<EventResponse> approvePublicEvent(@PathVariable Long eventId) {
         return ResponseEntity.ok(publicEventService.approvePublicEvent(eventId));
     }
 
     // Reject a public event (Super Admin only)
     @DeleteMapping("/{eventId}/reject")
+    @QueryBudget(12)
     public ResponseEntity<Void> rejectPublicEvent(@PathVariable Long eventId) {
         publicEventService.rejectPublicEvent(eventId);
         return ResponseEntity.noContent().build();
@@ -3,6 +3,7 @@ package edu.ucf.college_event_website.controller;
 import edu.ucf.college_event_website.dto.RatingRequest;
 import edu.ucf.college_event_website.dto.RatingResponse;
 import edu.ucf.college_event_website.service.RatingService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ public class RatingController {
 
     // Rate an event
     @PostMapping
+    @QueryBudget(8)
     public ResponseEntity<RatingResponse> rateEvent(
             @PathVariable Long eventId,
             @RequestBody RatingRequest request) {
@@ -26,6 +28,7 @@ public class RatingController {
 
     // Get average rating for an event
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<RatingResponse> getEventRating(@PathVariable Long eventId) {
         return ResponseEntity.ok(ratingService.getEventRating(eventId));
     }
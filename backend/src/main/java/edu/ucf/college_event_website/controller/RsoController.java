@@ -1,8 +1,14 @@
 package edu.ucf.college_event_website.controller;
 
+import edu.ucf.college_event_website.dto.RsoDirectoryResponse;
+import edu.ucf.college_event_website.dto.RsoMemberPageResponse;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkRequest;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse;
 import edu.ucf.college_event_website.model.Rso;
 import edu.ucf.college_event_website.model.RsoMembership;
+import edu.ucf.college_event_website.model.RsoStatus;
 import edu.ucf.college_event_website.service.RsoService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,24 +26,41 @@ public class RsoController {
 
     // Get all RSOs
     @GetMapping("/rsos")
+    @QueryBudget(10)
     public ResponseEntity<List<Rso>> getAllRsos() {
         return ResponseEntity.ok(rsoService.getAllRsos());
     }
 
+    // Browse a college's RSOs (defaults to the current user's college), keyset-paginated by name
+    @GetMapping("/rsos/directory")
+    @QueryBudget(4)
+    public ResponseEntity<RsoDirectoryResponse> getRsoDirectory(
+            @RequestParam(required = false) Long collegeId,
+            @RequestParam(required = false) RsoStatus status,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) String afterName,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(rsoService.getRsoDirectory(collegeId, status, namePrefix, afterName, afterId, size));
+    }
+
     // Get RSOs administered by current user
     @GetMapping("/admin/rsos")
+    @QueryBudget(6)
     public ResponseEntity<List<Rso>> getMyRsos() {
         return ResponseEntity.ok(rsoService.getRsosByCurrentAdmin());
     }
 
     // Get RSO by ID
     @GetMapping("/rsos/{id}")
+    @QueryBudget(6)
     public ResponseEntity<Rso> getRsoById(@PathVariable Long id) {
         return ResponseEntity.ok(rsoService.getRsoById(id));
     }
 
     // Create new RSO (Admin only)
     @PostMapping("/admin/rsos")
+    @QueryBudget(8)
     public ResponseEntity<Rso> createRso(@RequestBody Rso rso) {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(rsoService.createRso(rso));
@@ -45,6 +68,7 @@ public class RsoController {
 
     // Update RSO (Admin only)
     @PutMapping("/admin/rsos/{id}")
+    @QueryBudget(8)
     public ResponseEntity<Rso> updateRso(
             @PathVariable Long id,
             @RequestBody Rso rso
@@ -54,6 +78,7 @@ public class RsoController {
 
     // Delete RSO (Admin only)
     @DeleteMapping("/admin/rsos/{id}")
+    @QueryBudget(10)
     public ResponseEntity<Void> deleteRso(@PathVariable Long id) {
         rsoService.deleteRso(id);
         return ResponseEntity.noContent().build();
@@ -61,12 +86,24 @@ public class RsoController {
 
     // Get RSO members
     @GetMapping("/rsos/{id}/members")
+    @QueryBudget(10)
     public ResponseEntity<List<RsoMembership>> getRsoMembers(@PathVariable Long id) {
         return ResponseEntity.ok(rsoService.getRsoMembers(id));
     }
 
+    // Get one page of RSO members (user ID, name, email and join time only)
+    @GetMapping("/rsos/{id}/members/page")
+    @QueryBudget(4)
+    public ResponseEntity<RsoMemberPageResponse> getRsoMembersPage(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(rsoService.getRsoMembersPage(id, page, size));
+    }
+
     // Join RSO
     @PostMapping("/rsos/{id}/join")
+    @QueryBudget(12)
     public ResponseEntity<Void> joinRso(@PathVariable Long id) {
         rsoService.joinRso(id);
         return ResponseEntity.ok().build();
@@ -74,6 +111,7 @@ public class RsoController {
 
     // Leave RSO
     @DeleteMapping("/rsos/{id}/leave")
+    @QueryBudget(12)
     public ResponseEntity<Void> leaveRso(@PathVariable Long id) {
         rsoService.leaveRso(id);
         return ResponseEntity.ok().build();
@@ -81,6 +119,7 @@ public class RsoController {
 
     // Admin endpoint to add a member to RSO
     @PostMapping("/admin/rsos/{rsoId}/members")
+    @QueryBudget(12)
     public ResponseEntity<Void> addMemberToRso(
             @PathVariable Long rsoId,
             @RequestBody Map<String, Long> request) {
@@ -94,8 +133,19 @@ public class RsoController {
         return ResponseEntity.ok().build();
     }
 
+    // Admin endpoint to add and remove many members at once
+    @PostMapping("/admin/rsos/{rsoId}/members/bulk")
+    @QueryBudget(8)
+    public ResponseEntity<RsoMembershipBulkResponse> bulkUpdateMembers(
+            @PathVariable Long rsoId,
+            @RequestBody RsoMembershipBulkRequest request) {
+
+        return ResponseEntity.ok(rsoService.bulkUpdateMembers(rsoId, request));
+    }
+
     // Admin endpoint to remove a member from RSO
     @DeleteMapping("/admin/rsos/{rsoId}/members/{userId}")
+    @QueryBudget(12)
     public ResponseEntity<Void> removeMemberFromRso(
             @PathVariable Long rsoId,
             @PathVariable Long userId) {
@@ -4,6 +4,8 @@ import edu.ucf.college_event_website.dto.EventCreateRequest;
 import edu.ucf.college_event_website.dto.EventResponse;
 import edu.ucf.college_event_website.model.EventType;
 import edu.ucf.college_event_website.service.EventService;
+import edu.ucf.college_event_website.util.JsonFragments;
+import edu.ucf.college_event_website.util.QueryBudget;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -11,8 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/rsos/{rsoId}/events")
 public class RsoEventController {
@@ -25,12 +25,14 @@ public class RsoEventController {
 
     // Get all events for a specific RSO
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getRsoEvents(@PathVariable Long rsoId) {
+    @QueryBudget(30)
+    public ResponseEntity<JsonFragments> getRsoEvents(@PathVariable Long rsoId) {
         return ResponseEntity.ok(eventService.getEventsByRso(rsoId));
     }
 
     // Create a new RSO event (Admin only)
     @PostMapping
+    @QueryBudget(15)
     public ResponseEntity<EventResponse> createRsoEvent(
             @PathVariable Long rsoId,
             @RequestBody EventCreateRequest request) {
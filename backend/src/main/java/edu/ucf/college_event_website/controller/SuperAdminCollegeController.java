@@ -3,6 +3,7 @@ package edu.ucf.college_event_website.controller;
 import edu.ucf.college_event_website.dto.CollegeRequest;
 import edu.ucf.college_event_website.dto.CollegeResponse;
 import edu.ucf.college_event_website.service.CollegeService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ public class SuperAdminCollegeController {
 
     // Create a new college (Super Admin Only)
     @PostMapping
+    @QueryBudget(4)
     public ResponseEntity<CollegeResponse> createCollege(@RequestBody CollegeRequest collegeRequest) throws AccessDeniedException {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(collegeService.createCollege(collegeRequest));
@@ -26,12 +28,14 @@ public class SuperAdminCollegeController {
 
     // Update college (Super Admin ONLY)
     @PutMapping("/{id}")
+    @QueryBudget(5)
     public ResponseEntity<CollegeResponse> updateCollege(@PathVariable Long id, @RequestBody CollegeRequest collegeRequest) throws AccessDeniedException {
         return ResponseEntity.ok(collegeService.updateCollege(id, collegeRequest));
     }
 
     // Delete college (Super Admin ONLY)
     @DeleteMapping("/{id}")
+    @QueryBudget(75)
     public ResponseEntity<Void> deleteCollege(@PathVariable Long id) throws AccessDeniedException {
         collegeService.deleteCollege(id);
         return ResponseEntity.noContent().build();
@@ -1,7 +1,8 @@
 package edu.ucf.college_event_website.controller;
 
-import edu.ucf.college_event_website.model.User;
-import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.dto.UserSummaryResponse;
+import edu.ucf.college_event_website.service.UserSearchService;
+import edu.ucf.college_event_website.util.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,20 +11,22 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserSearchService userSearchService;
 
+    // Typeahead search by email or name within the caller's college
     @GetMapping("/search")
-    public ResponseEntity<List<User>> searchUsersByEmail(@RequestParam String email) {
-        List<User> users = userRepository.findAll().stream()
-                .filter(user -> user.getEmail().toLowerCase().contains(email.toLowerCase()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(users);
+    @QueryBudget(3)
+    public ResponseEntity<List<UserSummaryResponse>> searchUsersByEmail(
+            @RequestParam String email,
+            @RequestParam(required = false) Long collegeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userSearchService.searchUsers(email, collegeId, page, size));
     }
-}
\ No newline at end of file
+}
@@ -7,10 +7,12 @@ import lombok.Getter;
 @Getter
 public class AuthResponse {
     private final String token;
+    private final String refreshToken;
     private final UserDto user;
 
-    public AuthResponse(String token, User user) {
+    public AuthResponse(String token, String refreshToken, User user) {
         this.token = token;
+        this.refreshToken = refreshToken;
         this.user = new UserDto(user);
     }
 
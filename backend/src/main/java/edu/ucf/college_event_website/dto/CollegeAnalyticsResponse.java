@@ -0,0 +1,26 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Dashboard counts for one college. Months are keyed "yyyy-MM".
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollegeAnalyticsResponse {
+    private Long collegeId;
+    private Map<String, Long> eventsByType;
+    private Map<String, Long> eventsByMonth;
+    private long pendingApprovals;
+    private long rsoCount;
+    private long activeRsoCount;
+    private double averageRating;
+    private long ratingCount;
+    private long commentCount;
+    private Map<String, Long> commentsByMonth;
+    private LocalDateTime lastRecomputedAt;
+}
@@ -0,0 +1,17 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One page of the approval queue. Pass nextAfterId back to get the next page.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingEventPageResponse {
+    private List<EventResponse> events;
+    private boolean hasMore;
+    private Long nextAfterId;
+}
@@ -0,0 +1,15 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicEventBulkRequest {
+    private List<Long> eventIds = new ArrayList<>();
+}
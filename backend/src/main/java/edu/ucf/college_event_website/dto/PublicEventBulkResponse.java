@@ -0,0 +1,16 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Events that were approved or rejected, and those skipped because they were missing or not pending
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicEventBulkResponse {
+    private List<Long> processed;
+    private List<Long> skipped;
+}
@@ -0,0 +1,18 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One page of the RSO directory. Pass nextAfterName and nextAfterId back to get the next page.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsoDirectoryResponse {
+    private List<RsoSummaryResponse> rsos;
+    private boolean hasMore;
+    private String nextAfterName;
+    private Long nextAfterId;
+}
@@ -0,0 +1,18 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsoMemberPageResponse {
+    private List<RsoMemberResponse> members;
+    private int page;
+    private int size;
+    private long totalMembers;
+    private int totalPages;
+}
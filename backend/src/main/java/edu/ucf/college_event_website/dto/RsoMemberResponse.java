@@ -0,0 +1,19 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One RSO member, without the user's password hash or the RSO graph
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsoMemberResponse {
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private LocalDateTime joinedAt;
+}
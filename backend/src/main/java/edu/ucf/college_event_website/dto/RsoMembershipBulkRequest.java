@@ -0,0 +1,19 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Users to add to and remove from an RSO, by ID or by email
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsoMembershipBulkRequest {
+    private List<Long> addUserIds = new ArrayList<>();
+    private List<String> addEmails = new ArrayList<>();
+    private List<Long> removeUserIds = new ArrayList<>();
+    private List<String> removeEmails = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsoMembershipBulkResponse {
+    private Long rsoId;
+    private List<Outcome> results;
+
+    public enum Status {
+        ADDED, ALREADY_MEMBER, REMOVED, NOT_MEMBER, USER_NOT_FOUND, CANNOT_REMOVE_ADMIN
+    }
+
+    // What happened to one requested user (email is null when requested by ID and not found)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Outcome {
+        private Long userId;
+        private String email;
+        private Status status;
+    }
+}
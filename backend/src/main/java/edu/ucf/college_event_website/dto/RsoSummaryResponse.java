@@ -0,0 +1,17 @@
+package edu.ucf.college_event_website.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// RSO directory entry, without the admin user or college graph
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RsoSummaryResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private String status;
+    private int memberCount;
+}
@@ -0,0 +1,21 @@
+package edu.ucf.college_event_website.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a request or service call runs more SQL statements than its @QueryBudget allows
+ * Only raised when app.query-budget.fail-on-exceed is set, otherwise the overrun is just logged
+ */
+@Getter
+public class QueryBudgetExceededException extends RuntimeException {
+    private final String owner;
+    private final int budget;
+    private final int statements;
+
+    public QueryBudgetExceededException(String owner, int budget, int statements) {
+        super(owner + " ran " + statements + " SQL statements, its budget is " + budget);
+        this.owner = owner;
+        this.budget = budget;
+        this.statements = statements;
+    }
+}
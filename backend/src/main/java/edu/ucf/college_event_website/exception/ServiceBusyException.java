@@ -0,0 +1,17 @@
+package edu.ucf.college_event_website.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bounded resource is saturated and the request should be retried later
+ * Mapped to 503 with a Retry-After header
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -29,7 +29,12 @@ public class Rso {
     @JoinColumn(name = "college_id", nullable = false)
     private College college;
 
+    // Status and member count are only changed by RsoRepository.adjustMemberCount,
+    // never by saving the entity, so a stale copy cannot overwrite them
     @Enumerated(EnumType.STRING)
-    @Column
+    @Column(updatable = false)
     private RsoStatus status = RsoStatus.ACTIVE;
+
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private int memberCount = 0;
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package edu.ucf.college_event_website.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "rso_memberships")
@@ -23,4 +26,16 @@ public class RsoMembership {
     @MapsId("rsoId")
     @JoinColumn(name = "rso_id")
     private Rso rso;
+
+    // When the user joined, auto-populated if null (rows inserted by JDBC batches get the column default)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "joined_at", nullable = false, updatable = false)
+    private LocalDateTime joinedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (joinedAt == null) {
+            joinedAt = LocalDateTime.now();
+        }
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package edu.ucf.college_event_website.repository;
 
 import edu.ucf.college_event_website.model.College;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +15,8 @@ public interface CollegeRepository extends JpaRepository<College, Long> {
     List<College> findByLocation(String location);
 
     List<College> findByCreatedById(Long createdById);
+
+    // Every college with its creator, in one query
+    @Query("SELECT c FROM College c JOIN FETCH c.createdBy ORDER BY c.id")
+    List<College> findAllWithCreator();
 }
@@ -2,8 +2,12 @@ package edu.ucf.college_event_website.repository;
 
 import edu.ucf.college_event_website.model.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +16,53 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByEventIdOrderByTimestampDesc(Long eventId);
 
     void deleteByEventId(Long id);
+
+    long countByEventId(Long eventId);
+
+    // Delete the comments of many events in one statement
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.event.id IN :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // Comment counts per event, used to seed the leaderboards
+    @Query("SELECT c.event.id AS eventId, c.event.college.id AS collegeId, COUNT(c) AS commentCount " +
+            "FROM Comment c GROUP BY c.event.id, c.event.college.id")
+    List<EventCommentTotals> findCommentTotalsPerEvent();
+
+    // Comment counts per college and month, used to rebuild the college analytics
+    @Query("SELECT c.event.college.id AS collegeId, YEAR(c.timestamp) AS year, MONTH(c.timestamp) AS month, " +
+            "COUNT(c) AS commentCount " +
+            "FROM Comment c GROUP BY c.event.college.id, YEAR(c.timestamp), MONTH(c.timestamp)")
+    List<CollegeCommentCounts> findCommentCountsPerCollege();
+
+    // Comment counts of one event per month
+    @Query("SELECT YEAR(c.timestamp) AS year, MONTH(c.timestamp) AS month, COUNT(c) AS commentCount " +
+            "FROM Comment c WHERE c.event.id = :eventId GROUP BY YEAR(c.timestamp), MONTH(c.timestamp)")
+    List<MonthlyCommentCount> findMonthlyCommentCountsByEventId(@Param("eventId") Long eventId);
+
+    // Comment counts per college and month of the given events
+    @Query("SELECT c.event.college.id AS collegeId, YEAR(c.timestamp) AS year, MONTH(c.timestamp) AS month, " +
+            "COUNT(c) AS commentCount " +
+            "FROM Comment c WHERE c.event.id IN :eventIds " +
+            "GROUP BY c.event.college.id, YEAR(c.timestamp), MONTH(c.timestamp)")
+    List<CollegeCommentCounts> findCommentCountsPerCollegeByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    interface EventCommentTotals {
+        Long getEventId();
+        Long getCollegeId();
+        Long getCommentCount();
+    }
+
+    interface CollegeCommentCounts {
+        Long getCollegeId();
+        Integer getYear();
+        Integer getMonth();
+        Long getCommentCount();
+    }
+
+    interface MonthlyCommentCount {
+        Integer getYear();
+        Integer getMonth();
+        Long getCommentCount();
+    }
 }
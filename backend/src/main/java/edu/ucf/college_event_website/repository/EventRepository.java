@@ -3,12 +3,15 @@ package edu.ucf.college_event_website.repository;
 import edu.ucf.college_event_website.model.Event;
 import edu.ucf.college_event_website.model.EventType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
@@ -25,6 +28,21 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // Find events by date range
     List<Event> findByDateBetween(LocalDate startDate, LocalDate endDate);
 
+    // Delete many events in one statement (their subtype rows, comments and ratings must be gone)
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Find the college of an event without loading the event
+    @Query("SELECT e.college.id FROM Event e WHERE e.id = :eventId")
+    Optional<Long> findCollegeIdById(@Param("eventId") Long eventId);
+
+    // Event counts per college, type and month, used to rebuild the college analytics
+    @Query("SELECT e.college.id AS collegeId, e.eventType AS eventType, " +
+            "YEAR(e.date) AS year, MONTH(e.date) AS month, COUNT(e) AS eventCount " +
+            "FROM Event e GROUP BY e.college.id, e.eventType, YEAR(e.date), MONTH(e.date)")
+    List<CollegeEventCounts> findEventCountsPerCollege();
+
     // Query to find all events a user can access
     // This query assumes that the user has access to events based on their role and college memberships.
     @Query("SELECT e FROM Event e WHERE " +
@@ -35,4 +53,11 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             "        (SELECT rm.rso.id FROM RsoMembership rm WHERE rm.user.id = :userId)))")
     List<Event> findAccessibleEvents(@Param("userId") Long userId, @Param("collegeId") Long collegeId);
 
+    interface CollegeEventCounts {
+        Long getCollegeId();
+        EventType getEventType();
+        Integer getYear();
+        Integer getMonth();
+        Long getEventCount();
+    }
 }
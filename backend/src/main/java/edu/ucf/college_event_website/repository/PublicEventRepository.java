@@ -1,9 +1,18 @@
 package edu.ucf.college_event_website.repository;
 
 import edu.ucf.college_event_website.model.PublicEvent;
+import edu.ucf.college_event_website.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +22,78 @@ public interface PublicEventRepository extends JpaRepository<PublicEvent, Long>
 
     // Find events approved by a specific admin
     List<PublicEvent> findBySuperAdminId(Long adminId);
+
+    // The approved events among the given IDs
+    @Query("SELECT pe.id FROM PublicEvent pe WHERE pe.id IN :ids AND pe.approved = true")
+    List<Long> findApprovedIdsIn(@Param("ids") Collection<Long> ids);
+
+    // IDs of approved events, lowest first
+    @Query("SELECT pe.id FROM PublicEvent pe WHERE pe.approved = true ORDER BY pe.id")
+    List<Long> findApprovedIds(Limit limit);
+
+    // One page of the approval queue, oldest first, starting after the given event ID.
+    // Everything the queue shows comes from this one query (idx_public_events_approved).
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.time AS time, e.date AS date, " +
+            "l.id AS locationId, l.name AS locationName, l.address AS locationAddress, " +
+            "l.latitude AS latitude, l.longitude AS longitude, " +
+            "u.firstName AS creatorFirstName, u.lastName AS creatorLastName, c.name AS collegeName, " +
+            "e.contactPhone AS contactPhone, e.contactEmail AS contactEmail, " +
+            "(SELECT AVG(r.ratingValue) FROM Rating r WHERE r.event.id = e.id) AS averageRating, " +
+            "(SELECT COUNT(cm) FROM Comment cm WHERE cm.event.id = e.id) AS commentCount " +
+            "FROM PublicEvent pe JOIN pe.event e JOIN e.location l JOIN e.createdBy u JOIN e.college c " +
+            "WHERE pe.approved = false AND (:afterId IS NULL OR pe.id > :afterId) " +
+            "ORDER BY pe.id")
+    List<PendingEventRow> findPendingPage(@Param("afterId") Long afterId, Limit limit);
+
+    // The given events that are still waiting for approval
+    @Query("SELECT pe.id AS eventId, pe.event.college.id AS collegeId, pe.event.date AS date " +
+            "FROM PublicEvent pe WHERE pe.id IN :ids AND pe.approved = false")
+    List<PendingEventRef> findPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Approve many pending events in one statement
+    @Modifying
+    @Query("UPDATE PublicEvent pe SET pe.approved = true, pe.superAdmin = :superAdmin " +
+            "WHERE pe.id IN :ids AND pe.approved = false")
+    int approveAllByIdIn(@Param("ids") Collection<Long> ids, @Param("superAdmin") User superAdmin);
+
+    // Delete many pending events in one statement
+    @Modifying
+    @Query("DELETE FROM PublicEvent pe WHERE pe.id IN :ids AND pe.approved = false")
+    int deletePendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Public events waiting for approval per college, used to rebuild the college analytics
+    @Query("SELECT pe.event.college.id AS collegeId, COUNT(pe) AS pendingCount " +
+            "FROM PublicEvent pe WHERE pe.approved = false GROUP BY pe.event.college.id")
+    List<CollegePendingCount> findPendingCountsPerCollege();
+
+    interface PendingEventRow {
+        Long getId();
+        String getName();
+        String getDescription();
+        LocalTime getTime();
+        LocalDate getDate();
+        Long getLocationId();
+        String getLocationName();
+        String getLocationAddress();
+        BigDecimal getLatitude();
+        BigDecimal getLongitude();
+        String getCreatorFirstName();
+        String getCreatorLastName();
+        String getCollegeName();
+        String getContactPhone();
+        String getContactEmail();
+        Double getAverageRating();
+        Long getCommentCount();
+    }
+
+    interface PendingEventRef {
+        Long getEventId();
+        Long getCollegeId();
+        LocalDate getDate();
+    }
+
+    interface CollegePendingCount {
+        Long getCollegeId();
+        Long getPendingCount();
+    }
 }
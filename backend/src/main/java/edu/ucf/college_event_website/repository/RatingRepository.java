@@ -3,19 +3,91 @@ package edu.ucf.college_event_website.repository;
 import edu.ucf.college_event_website.model.Rating;
 import edu.ucf.college_event_website.model.RatingKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, RatingKey> {
     // calculate the average rating
     @Query("SELECT AVG(r.ratingValue) FROM Rating r WHERE r.event.id = :eventId")
     Double calculateAverageRating(@Param("eventId") Long eventId);
 
+    // Rating totals per event, used to seed the leaderboards
+    @Query("SELECT r.event.id AS eventId, r.event.college.id AS collegeId, " +
+            "SUM(r.ratingValue) AS ratingSum, COUNT(r) AS ratingCount " +
+            "FROM Rating r GROUP BY r.event.id, r.event.college.id")
+    List<EventRatingTotals> findRatingTotalsPerEvent();
+
+    // Rating totals per college, used to rebuild the college analytics
+    @Query("SELECT r.event.college.id AS collegeId, SUM(r.ratingValue) AS ratingSum, COUNT(r) AS ratingCount " +
+            "FROM Rating r GROUP BY r.event.college.id")
+    List<CollegeRatingTotals> findRatingTotalsPerCollege();
+
+    // Rating totals per college of the given events
+    @Query("SELECT r.event.college.id AS collegeId, SUM(r.ratingValue) AS ratingSum, COUNT(r) AS ratingCount " +
+            "FROM Rating r WHERE r.event.id IN :eventIds GROUP BY r.event.college.id")
+    List<CollegeRatingTotals> findRatingTotalsPerCollegeByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // Rating totals of one event
+    @Query("SELECT COALESCE(SUM(r.ratingValue), 0) AS ratingSum, COUNT(r) AS ratingCount " +
+            "FROM Rating r WHERE r.event.id = :eventId")
+    RatingTotals findRatingTotalsByEventId(@Param("eventId") Long eventId);
+
     // Check if a user has already rated an event
     boolean existsByUserIdAndEventId(Long userId, Long eventId);
 
 
     void deleteByEventId(Long id);
+
+    // Delete the ratings of many events in one statement
+    @Modifying
+    @Query("DELETE FROM Rating r WHERE r.event.id IN :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // Insert a new rating without loading the user or the event. Returns 0 instead of failing when the
+    // user has already rated the event, so the first rating is a single statement with no read before it.
+    // MySQL also downgrades a missing event to a warning under IGNORE; that too comes back as 0.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO ratings (user_id, event_id, rating_value) VALUES (:userId, :eventId, :ratingValue)",
+            nativeQuery = true)
+    int insertRatingIfAbsent(@Param("userId") Long userId,
+                             @Param("eventId") Long eventId,
+                             @Param("ratingValue") Integer ratingValue);
+
+    // Current value of a user's rating of an event (null if none). Only read once the insert has found
+    // the row, so it locks that one row rather than a gap and cannot deadlock with another first rating.
+    @Query(value = "SELECT rating_value FROM ratings WHERE user_id = :userId AND event_id = :eventId FOR UPDATE",
+            nativeQuery = true)
+    Integer findRatingValueForUpdate(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    // Change the value of an existing rating
+    @Modifying
+    @Query(value = "UPDATE ratings SET rating_value = :ratingValue WHERE user_id = :userId AND event_id = :eventId",
+            nativeQuery = true)
+    int updateRatingValue(@Param("userId") Long userId,
+                          @Param("eventId") Long eventId,
+                          @Param("ratingValue") Integer ratingValue);
+
+    interface EventRatingTotals {
+        Long getEventId();
+        Long getCollegeId();
+        Long getRatingSum();
+        Long getRatingCount();
+    }
+
+    interface CollegeRatingTotals {
+        Long getCollegeId();
+        Long getRatingSum();
+        Long getRatingCount();
+    }
+
+    interface RatingTotals {
+        Long getRatingSum();
+        Long getRatingCount();
+    }
 }
@@ -0,0 +1,28 @@
+package edu.ucf.college_event_website.repository;
+
+import edu.ucf.college_event_website.model.RevokedToken;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    // Revocations that still matter (token not yet expired)
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime time);
+
+    // Purge revocations of tokens that have expired anyway
+    void deleteByExpiresAtBefore(LocalDateTime time);
+
+    // Plain insert in its own transaction: a jti that is already revoked fails on the primary key
+    // instead of being merged like save() would
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO revoked_tokens (jti, expires_at) VALUES (:jti, :expiresAt)", nativeQuery = true)
+    int insert(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -2,12 +2,20 @@ package edu.ucf.college_event_website.repository;
 
 import edu.ucf.college_event_website.model.RsoEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RsoEventRepository extends JpaRepository<RsoEvent, Long> {
     List<RsoEvent> findByRsoId(Long rsoId);
 
+    // The events among the given IDs hosted by an RSO the user is a member of
+    @Query("SELECT re.id FROM RsoEvent re WHERE re.id IN :ids AND EXISTS " +
+            "(SELECT rm FROM RsoMembership rm WHERE rm.rso = re.rso AND rm.user.id = :userId)")
+    List<Long> findIdsInRsosOfUser(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
 }
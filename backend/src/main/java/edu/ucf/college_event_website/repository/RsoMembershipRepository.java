@@ -2,15 +2,20 @@ package edu.ucf.college_event_website.repository;
 
 import edu.ucf.college_event_website.model.RsoMembership;
 import edu.ucf.college_event_website.model.RsoMembershipKey;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface RsoMembershipRepository extends JpaRepository<RsoMembership, RsoMembershipKey> {
+public interface RsoMembershipRepository extends JpaRepository<RsoMembership, RsoMembershipKey>,
+        RsoMembershipRepositoryCustom {
 
     // Find all RSO memberships for a user
     List<RsoMembership> findByUserId(Long userId);
@@ -18,9 +23,22 @@ public interface RsoMembershipRepository extends JpaRepository<RsoMembership, Rs
     // Find all members of an RSO
     List<RsoMembership> findByRsoId(Long rsoId);
 
+    // One page of an RSO's members as flat rows, oldest members first.
+    // The count only touches rso_memberships and is skipped when the page is not full.
+    @Query(value = "SELECT u.id AS userId, u.firstName AS firstName, u.lastName AS lastName, " +
+            "u.email AS email, rm.joinedAt AS joinedAt " +
+            "FROM RsoMembership rm JOIN rm.user u WHERE rm.rso.id = :rsoId " +
+            "ORDER BY rm.joinedAt, u.id",
+            countQuery = "SELECT COUNT(rm) FROM RsoMembership rm WHERE rm.rso.id = :rsoId")
+    Page<RsoMemberRow> findMemberRowsByRsoId(@Param("rsoId") Long rsoId, Pageable pageable);
+
     // Check if a user is a member of an RSO
     boolean existsByUserIdAndRsoId(Long userId, Long rsoId);
 
+    // Which of the given users are already members of an RSO
+    @Query("SELECT rm.user.id FROM RsoMembership rm WHERE rm.rso.id = :rsoId AND rm.user.id IN :userIds")
+    List<Long> findMemberIdsIn(@Param("rsoId") Long rsoId, @Param("userIds") Collection<Long> userIds);
+
     // Count members in an RSO
     @Query("SELECT COUNT(rm) FROM RsoMembership rm WHERE rm.rso.id = :rsoId")
     int countMembersByRsoId(@Param("rsoId") Long rsoId);
@@ -30,4 +48,12 @@ public interface RsoMembershipRepository extends JpaRepository<RsoMembership, Rs
 
     // Delete a specific membership
     void deleteByUserIdAndRsoId(Long userId, Long rsoId);
-}
\ No newline at end of file
+
+    interface RsoMemberRow {
+        Long getUserId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        LocalDateTime getJoinedAt();
+    }
+}
@@ -0,0 +1,13 @@
+package edu.ucf.college_event_website.repository;
+
+import java.util.Collection;
+
+// Batch writes for RSO memberships, implemented with plain JDBC
+public interface RsoMembershipRepositoryCustom {
+
+    // Insert memberships for all users in one JDBC batch
+    void batchInsertMembers(Long rsoId, Collection<Long> userIds);
+
+    // Delete memberships for all users in one JDBC batch
+    void batchDeleteMembers(Long rsoId, Collection<Long> userIds);
+}
@@ -0,0 +1,30 @@
+package edu.ucf.college_event_website.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+// Picked up by Spring Data as the implementation of RsoMembershipRepositoryCustom
+public class RsoMembershipRepositoryImpl implements RsoMembershipRepositoryCustom {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsertMembers(Long rsoId, Collection<Long> userIds) {
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> new Object[]{userId, rsoId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO rso_memberships (user_id, rso_id) VALUES (?, ?)", rows);
+    }
+
+    @Override
+    public void batchDeleteMembers(Long rsoId, Collection<Long> userIds) {
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> new Object[]{userId, rsoId})
+                .toList();
+        jdbcTemplate.batchUpdate("DELETE FROM rso_memberships WHERE user_id = ? AND rso_id = ?", rows);
+    }
+}
@@ -1,11 +1,19 @@
 package edu.ucf.college_event_website.repository;
 
 import edu.ucf.college_event_website.model.Rso;
+import edu.ucf.college_event_website.model.RsoStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RsoRepository extends JpaRepository<Rso, Long> {
@@ -13,4 +21,55 @@ public interface RsoRepository extends JpaRepository<Rso, Long> {
     List<Rso> findByCollegeId(Long id);
 
     List<Rso> findByAdminId(Long id);
+
+    // Load an RSO and lock its row until the transaction ends (SELECT ... FOR UPDATE), so the member
+    // count and status read here are the ones a following adjustMemberCount overwrites
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rso r WHERE r.id = :id")
+    Optional<Rso> findByIdForUpdate(@Param("id") Long id);
+
+    // One page of a college's RSO directory in name order, starting after the given (name, id).
+    // Reads idx_rsos_college_name from the cursor onwards, never counts or skips rows.
+    @Query("SELECT r.id AS id, r.name AS name, r.description AS description, " +
+            "r.status AS status, r.memberCount AS memberCount " +
+            "FROM Rso r WHERE r.college.id = :collegeId " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:namePrefix IS NULL OR r.name LIKE CONCAT(:namePrefix, '%') ESCAPE '!') " +
+            "AND (:afterName IS NULL OR r.name > :afterName OR (r.name = :afterName AND r.id > :afterId)) " +
+            "ORDER BY r.name, r.id")
+    List<RsoDirectoryRow> findDirectoryPage(@Param("collegeId") Long collegeId,
+                                            @Param("status") RsoStatus status,
+                                            @Param("namePrefix") String namePrefix,
+                                            @Param("afterName") String afterName,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    // RSO counts per college and status, used to rebuild the college analytics
+    @Query("SELECT r.college.id AS collegeId, r.status AS status, COUNT(r) AS rsoCount " +
+            "FROM Rso r GROUP BY r.college.id, r.status")
+    List<CollegeRsoCounts> findRsoCountsPerCollege();
+
+    // Change an RSO's member count and derive its status from the new count in one statement.
+    // status is assigned first so it reads the old member_count on every database.
+    @Modifying
+    @Query(value = "UPDATE rsos SET " +
+            "status = CASE WHEN member_count + :delta >= :threshold THEN 'ACTIVE' ELSE 'INACTIVE' END, " +
+            "member_count = member_count + :delta " +
+            "WHERE rso_id = :rsoId", nativeQuery = true)
+    int adjustMemberCount(@Param("rsoId") Long rsoId, @Param("delta") int delta,
+                          @Param("threshold") int threshold);
+
+    interface RsoDirectoryRow {
+        Long getId();
+        String getName();
+        String getDescription();
+        RsoStatus getStatus();
+        int getMemberCount();
+    }
+
+    interface CollegeRsoCounts {
+        Long getCollegeId();
+        RsoStatus getStatus();
+        Long getRsoCount();
+    }
 }
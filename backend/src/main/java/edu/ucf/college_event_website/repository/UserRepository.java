@@ -1,11 +1,13 @@
 package edu.ucf.college_event_website.repository;
 
+import edu.ucf.college_event_website.model.Role;
 import edu.ucf.college_event_website.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +15,40 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
-    @Query("SELECT u FROM User u JOIN FETCH u.college WHERE u.email = :email")
+    // Loads the user and their college (if any) in one query
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.college WHERE u.email = :email")
     Optional<User> findByEmailWithCollege(@Param("email") String email);
 
     Boolean existsByEmail(String email);
 
     List<User> findByCollegeId(Long id);
+
+    // Resolve users by ID or email in one query, without loading the entities
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id IN :ids OR u.email IN :emails")
+    List<UserIdAndEmail> findIdsAndEmails(@Param("ids") Collection<Long> ids,
+                                          @Param("emails") Collection<String> emails);
+
+    // Every user as a flat row, used to build the search index
+    @Query("SELECT u.id AS id, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, " +
+            "u.role AS role, c.id AS collegeId FROM User u LEFT JOIN u.college c ORDER BY u.id")
+    List<UserSearchRow> findAllSearchRows();
+
+    // One user as a flat row, used to re-index them
+    @Query("SELECT u.id AS id, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, " +
+            "u.role AS role, c.id AS collegeId FROM User u LEFT JOIN u.college c WHERE u.id = :id")
+    Optional<UserSearchRow> findSearchRowById(@Param("id") Long id);
+
+    interface UserIdAndEmail {
+        Long getId();
+        String getEmail();
+    }
+
+    interface UserSearchRow {
+        Long getId();
+        String getEmail();
+        String getFirstName();
+        String getLastName();
+        Role getRole();
+        Long getCollegeId();
+    }
 }
@@ -7,15 +7,14 @@ import edu.ucf.college_event_website.model.College;
 import edu.ucf.college_event_website.model.User;
 import edu.ucf.college_event_website.repository.CollegeRepository;
 import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
 import edu.ucf.college_event_website.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -30,13 +29,19 @@ public class AuthService {
     private CollegeRepository collegeRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private JwtUtil jwtUtil;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
 
     // Registers a new user in the system
     public AuthResponse registerUser(SignupRequest signupRequest) {
@@ -48,7 +53,7 @@ public class AuthService {
         user.setEmail(signupRequest.getEmail());
         user.setFirstName(signupRequest.getFirstName());
         user.setLastName(signupRequest.getLastName());
-        user.setPassword(passwordEncoder.encode(signupRequest.getPassword()));
+        user.setPassword(passwordHashingService.encode(signupRequest.getPassword()));
         user.setRole(signupRequest.getRole());
 
         // If signup includes a college ID, set it here
@@ -59,51 +64,92 @@ public class AuthService {
         }
 
         User savedUser = userRepository.save(user);
+        userSearchService.index(savedUser);
+        invalidationPublisher.publish(Invalidation.userAdded(savedUser.getId()));
 
-        UserDetails userDetails = new org.springframework.security.core.userdetails.User(
-                savedUser.getEmail(),
-                savedUser.getPassword(),
-                java.util.Collections.singletonList(
-                        new SimpleGrantedAuthority("ROLE_" + savedUser.getRole().name())
-                )
-        );
-
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(savedUser);
 
-        return new AuthResponse(token, savedUser);
+        return new AuthResponse(token, jwtUtil.generateRefreshToken(savedUser), savedUser);
     }
 
     // Authenticates a user and generates a JWT token
     public AuthResponse loginUser(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getEmail(),
-                        loginRequest.getPassword()
-                )
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        // First try to get the user with college info
+        // Get the user with college info
         User user = userRepository.findByEmailWithCollege(loginRequest.getEmail())
                 .orElse(null);
 
-        // If that doesn't work, fall back to the regular findByEmail
+        // Verify the password on the hashing pool, not the request thread
         if (user == null) {
-            user = userRepository.findByEmail(loginRequest.getEmail())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            passwordHashingService.matchUnknownUser(loginRequest.getPassword());
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (!passwordHashingService.matches(loginRequest.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+
+        // Re-hash with the current cost factor if it has changed since the password was set
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHashingService.encode(loginRequest.getPassword()));
+            userRepository.save(user);
+        }
+
+        String token = jwtUtil.generateToken(user);
+
+        return new AuthResponse(token, jwtUtil.generateRefreshToken(user), user);
+    }
+
+    // Exchanges a refresh token for a new access token, rotating the refresh token
+    public AuthResponse refreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractAllClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid refresh token");
         }
 
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String token = jwtUtil.generateToken(userDetails);
+        if (!jwtUtil.isRefreshToken(claims) || tokenRevocationService.isRevoked(claims.getId())) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        // Reload the user so the new token reflects any change to role or college
+        User user = userRepository.findByEmailWithCollege(claims.getSubject())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
 
-        return new AuthResponse(token, user);
+        // Each refresh token can only be used once, of two concurrent refreshes only one gets through
+        if (!tokenRevocationService.revokeOnce(claims.getId(), claims.getExpiration().getTime())) {
+            throw new BadCredentialsException("Refresh token already used");
+        }
+
+        return new AuthResponse(jwtUtil.generateToken(user), jwtUtil.generateRefreshToken(user), user);
+    }
+
+    // Revokes the given tokens so they stop working before they expire
+    public void logout(String accessToken, String refreshToken) {
+        for (String token : new String[]{accessToken, refreshToken}) {
+            if (token == null) {
+                continue;
+            }
+            try {
+                Claims claims = jwtUtil.extractAllClaims(token);
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration().getTime());
+            } catch (JwtException | IllegalArgumentException e) {
+                // Already invalid or expired, nothing to revoke
+            }
+        }
     }
 
     // Validates a JWT token
     public boolean validateToken(String token) {
         try {
+            Claims claims = jwtUtil.extractAllClaims(token);
+
+            // Refresh tokens are only good for /refresh, and logged out tokens for nothing
+            if (jwtUtil.isRefreshToken(claims) || tokenRevocationService.isRevoked(claims.getId())) {
+                return false;
+            }
+
             // Extract username from token
-            String username = jwtUtil.extractUsername(token);
+            String username = claims.getSubject();
 
             // Find user in database and create UserDetails
             UserDetails userDetails = userRepository.findByEmail(username)
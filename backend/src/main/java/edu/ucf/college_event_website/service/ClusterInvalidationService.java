@@ -0,0 +1,104 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationBus;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
+import edu.ucf.college_event_website.util.RsoDirectoryCache;
+import edu.ucf.college_event_website.util.UserStalenessRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies the invalidations other nodes publish on the InvalidationBus to this node's caches:
+ * event JSON, leaderboards, the college snapshot, RSO directory pages, the user search index
+ * and stale-token tracking.
+ * Entries are dropped or reloaded from the database, so a lost or repeated message only
+ * costs a reload. Token revocations travel on their own RevocationBroadcast.
+ */
+@Service
+public class ClusterInvalidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationService.class);
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private CollegeService collegeService;
+
+    @Autowired
+    private RsoDirectoryCache rsoDirectoryCache;
+
+    @Autowired
+    private UserStalenessRegistry userStalenessRegistry;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter receivedCounter;
+
+    @PostConstruct
+    public void subscribe() {
+        receivedCounter = Counter.builder("cache.invalidation.received")
+                .description("Invalidations received from the other nodes")
+                .register(meterRegistry);
+        invalidationBus.subscribe(this::apply);
+    }
+
+    private void apply(InvalidationBus.Batch batch) {
+        // This node already updated its own caches
+        if (invalidationPublisher.getNodeId().equals(batch.origin())) {
+            return;
+        }
+        receivedCounter.increment(batch.invalidations().size());
+        for (Invalidation invalidation : batch.invalidations()) {
+            try {
+                apply(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("invalidation_apply_failed type={} id={} origin={} error=\"{}\"",
+                        invalidation.type(), invalidation.id(), batch.origin(), e.getMessage());
+            }
+        }
+    }
+
+    private void apply(Invalidation invalidation) {
+        Long id = invalidation.id();
+        switch (invalidation.type()) {
+            case EVENT -> eventJsonCache.invalidate(id);
+            case EVENT_SCORES -> {
+                eventJsonCache.invalidate(id);
+                leaderboardService.reloadEvent(id);
+            }
+            case EVENT_REMOVED -> {
+                eventJsonCache.remove(id);
+                leaderboardService.removeEvent(id);
+            }
+            case ALL_EVENTS -> eventJsonCache.invalidateAll();
+            case COLLEGE -> collegeService.reloadCollege(id);
+            case RSO_DIRECTORY -> rsoDirectoryCache.evictCollege(id);
+            case USER -> {
+                userStalenessRegistry.markChanged(id);
+                userSearchService.reindex(id);
+            }
+            case USER_ADDED -> userSearchService.reindex(id);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.dto.CollegeAnalyticsResponse;
+import edu.ucf.college_event_website.model.Event;
+import edu.ucf.college_event_website.model.EventType;
+import edu.ucf.college_event_website.model.RsoStatus;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.CommentRepository;
+import edu.ucf.college_event_website.repository.EventRepository;
+import edu.ucf.college_event_website.repository.PublicEventRepository;
+import edu.ucf.college_event_website.repository.RatingRepository;
+import edu.ucf.college_event_website.repository.RsoRepository;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Per-college dashboard counts, kept in memory and updated by the event, RSO, rating and
+ * comment write paths once their transaction commits, so a dashboard read never scans a table.
+ * A full recompute from the database runs at startup and nightly to correct any drift.
+ * The recompute reads one transaction's snapshot, and changes committed while it runs
+ * are logged and replayed onto its result before the swap, so none of them are lost.
+ */
+@Service
+public class CollegeAnalyticsService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PublicEventRepository publicEventRepository;
+
+    @Autowired
+    private RsoRepository rsoRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    // Replaced as a whole by each recompute
+    private volatile Map<Long, CollegeAggregates> aggregates = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastRecomputedAt;
+
+    // Changes take the read lock, the start and the swap of a recompute take the write lock
+    private final ReadWriteLock recomputeLock = new ReentrantReadWriteLock();
+
+    // Changes applied since the running recompute started (null when none is running)
+    private Queue<Consumer<Map<Long, CollegeAggregates>>> changesDuringRecompute;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadFromDatabase() {
+        recomputeAll();
+    }
+
+    // Rebuild every college's counts from the database (nightly by default).
+    // The queries share one transaction, so they all see the same snapshot (InnoDB's default REPEATABLE READ).
+    // Only a change committed between the start of the log and that snapshot is counted twice.
+    @Scheduled(cron = "${app.analytics.recompute-cron:0 30 3 * * *}")
+    @Transactional
+    public void recomputeAll() {
+        Queue<Consumer<Map<Long, CollegeAggregates>>> changes = new ConcurrentLinkedQueue<>();
+        recomputeLock.writeLock().lock();
+        try {
+            changesDuringRecompute = changes;
+        } finally {
+            recomputeLock.writeLock().unlock();
+        }
+
+        Map<Long, CollegeAggregates> rebuilt = null;
+        try {
+            rebuilt = readAggregates();
+        } finally {
+            recomputeLock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Map<Long, CollegeAggregates>> change : changes) {
+                        change.accept(rebuilt);
+                    }
+                    aggregates = rebuilt;
+                    lastRecomputedAt = LocalDateTime.now();
+                }
+                changesDuringRecompute = null;
+            } finally {
+                recomputeLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private Map<Long, CollegeAggregates> readAggregates() {
+        Map<Long, CollegeAggregates> rebuilt = new ConcurrentHashMap<>();
+
+        for (EventRepository.CollegeEventCounts row : eventRepository.findEventCountsPerCollege()) {
+            CollegeAggregates college = rebuilt.computeIfAbsent(row.getCollegeId(), id -> new CollegeAggregates());
+            college.eventsByType.addAndGet(row.getEventType().ordinal(), row.getEventCount());
+            add(college.eventsByMonth, month(row.getYear(), row.getMonth()), row.getEventCount());
+        }
+        for (PublicEventRepository.CollegePendingCount row : publicEventRepository.findPendingCountsPerCollege()) {
+            rebuilt.computeIfAbsent(row.getCollegeId(), id -> new CollegeAggregates())
+                    .pendingApprovals.set(row.getPendingCount());
+        }
+        for (RsoRepository.CollegeRsoCounts row : rsoRepository.findRsoCountsPerCollege()) {
+            CollegeAggregates college = rebuilt.computeIfAbsent(row.getCollegeId(), id -> new CollegeAggregates());
+            college.rsoCount.addAndGet(row.getRsoCount());
+            if (row.getStatus() == RsoStatus.ACTIVE) {
+                college.activeRsoCount.addAndGet(row.getRsoCount());
+            }
+        }
+        for (RatingRepository.CollegeRatingTotals row : ratingRepository.findRatingTotalsPerCollege()) {
+            CollegeAggregates college = rebuilt.computeIfAbsent(row.getCollegeId(), id -> new CollegeAggregates());
+            college.ratingSum.set(row.getRatingSum());
+            college.ratingCount.set(row.getRatingCount());
+        }
+        for (CommentRepository.CollegeCommentCounts row : commentRepository.findCommentCountsPerCollege()) {
+            CollegeAggregates college = rebuilt.computeIfAbsent(row.getCollegeId(), id -> new CollegeAggregates());
+            college.commentCount.addAndGet(row.getCommentCount());
+            add(college.commentsByMonth, month(row.getYear(), row.getMonth()), row.getCommentCount());
+        }
+        return rebuilt;
+    }
+
+    // Get the dashboard of a college (its admins and super admins only)
+    @QueryBudget(3)
+    public CollegeAnalyticsResponse getCollegeAnalytics(Long collegeId) {
+        User currentUser = securityUtils.getCurrentUser();
+        if (!securityUtils.isSuperAdmin() && (currentUser.getCollege() == null
+                || !currentUser.getCollege().getId().equals(collegeId))) {
+            throw new AccessDeniedException("You can only view analytics of your own college");
+        }
+
+        CollegeAggregates college = aggregates.getOrDefault(collegeId, new CollegeAggregates());
+
+        Map<String, Long> eventsByType = new LinkedHashMap<>();
+        for (EventType type : EventType.values()) {
+            eventsByType.put(type.name(), college.eventsByType.get(type.ordinal()));
+        }
+        long ratingCount = college.ratingCount.get();
+        double averageRating = ratingCount == 0 ? 0.0 : (double) college.ratingSum.get() / ratingCount;
+
+        return new CollegeAnalyticsResponse(
+                collegeId,
+                eventsByType,
+                snapshot(college.eventsByMonth),
+                college.pendingApprovals.get(),
+                college.rsoCount.get(),
+                college.activeRsoCount.get(),
+                averageRating,
+                ratingCount,
+                college.commentCount.get(),
+                snapshot(college.commentsByMonth),
+                lastRecomputedAt
+        );
+    }
+
+    // An event was created (pending = public event waiting for approval)
+    public void recordEventCreated(Long collegeId, EventType type, LocalDate date, boolean pending) {
+        change(target -> {
+            CollegeAggregates college = aggregatesFor(target, collegeId);
+            college.eventsByType.incrementAndGet(type.ordinal());
+            add(college.eventsByMonth, YearMonth.from(date), 1);
+            if (pending) {
+                college.pendingApprovals.incrementAndGet();
+            }
+        });
+    }
+
+    // An event moved to another date
+    public void recordEventRescheduled(Long collegeId, LocalDate oldDate, LocalDate newDate) {
+        if (YearMonth.from(oldDate).equals(YearMonth.from(newDate))) {
+            return;
+        }
+        change(target -> {
+            CollegeAggregates college = aggregatesFor(target, collegeId);
+            add(college.eventsByMonth, YearMonth.from(oldDate), -1);
+            add(college.eventsByMonth, YearMonth.from(newDate), 1);
+        });
+    }
+
+    // An event is about to be deleted. Call before its ratings and comments are removed.
+    public void recordEventDeleted(Event event, boolean pending) {
+        Long collegeId = event.getCollege().getId();
+        EventType type = event.getEventType();
+        LocalDate date = event.getDate();
+        RatingRepository.RatingTotals ratings = ratingRepository.findRatingTotalsByEventId(event.getId());
+        List<CommentRepository.MonthlyCommentCount> comments =
+                commentRepository.findMonthlyCommentCountsByEventId(event.getId());
+
+        change(target -> {
+            CollegeAggregates college = aggregatesFor(target, collegeId);
+            college.eventsByType.decrementAndGet(type.ordinal());
+            add(college.eventsByMonth, YearMonth.from(date), -1);
+            if (pending) {
+                college.pendingApprovals.decrementAndGet();
+            }
+            college.ratingSum.addAndGet(-ratings.getRatingSum());
+            college.ratingCount.addAndGet(-ratings.getRatingCount());
+            for (CommentRepository.MonthlyCommentCount row : comments) {
+                college.commentCount.addAndGet(-row.getCommentCount());
+                add(college.commentsByMonth, month(row.getYear(), row.getMonth()), -row.getCommentCount());
+            }
+        });
+    }
+
+    // A pending public event was approved
+    public void recordApproval(Long collegeId) {
+        change(target -> aggregatesFor(target, collegeId).pendingApprovals.decrementAndGet());
+    }
+
+    // Many pending public events were approved at once
+    public void recordApprovals(List<PublicEventRepository.PendingEventRef> events) {
+        change(target -> {
+            for (PublicEventRepository.PendingEventRef event : events) {
+                aggregatesFor(target, event.getCollegeId()).pendingApprovals.decrementAndGet();
+            }
+        });
+    }
+
+    // Many pending public events are about to be deleted. Call before their ratings and comments are removed.
+    public void recordPendingEventsDeleted(List<PublicEventRepository.PendingEventRef> events) {
+        List<Long> eventIds = events.stream().map(PublicEventRepository.PendingEventRef::getEventId).toList();
+        List<RatingRepository.CollegeRatingTotals> ratings =
+                ratingRepository.findRatingTotalsPerCollegeByEventIdIn(eventIds);
+        List<CommentRepository.CollegeCommentCounts> comments =
+                commentRepository.findCommentCountsPerCollegeByEventIdIn(eventIds);
+
+        change(target -> {
+            for (PublicEventRepository.PendingEventRef event : events) {
+                CollegeAggregates college = aggregatesFor(target, event.getCollegeId());
+                college.eventsByType.decrementAndGet(EventType.PUBLIC.ordinal());
+                add(college.eventsByMonth, YearMonth.from(event.getDate()), -1);
+                college.pendingApprovals.decrementAndGet();
+            }
+            for (RatingRepository.CollegeRatingTotals row : ratings) {
+                CollegeAggregates college = aggregatesFor(target, row.getCollegeId());
+                college.ratingSum.addAndGet(-row.getRatingSum());
+                college.ratingCount.addAndGet(-row.getRatingCount());
+            }
+            for (CommentRepository.CollegeCommentCounts row : comments) {
+                CollegeAggregates college = aggregatesFor(target, row.getCollegeId());
+                college.commentCount.addAndGet(-row.getCommentCount());
+                add(college.commentsByMonth, month(row.getYear(), row.getMonth()), -row.getCommentCount());
+            }
+        });
+    }
+
+    // An RSO was created (delta = 1) or deleted (delta = -1)
+    public void recordRso(Long collegeId, RsoStatus status, int delta) {
+        change(target -> {
+            CollegeAggregates college = aggregatesFor(target, collegeId);
+            college.rsoCount.addAndGet(delta);
+            if (status == RsoStatus.ACTIVE) {
+                college.activeRsoCount.addAndGet(delta);
+            }
+        });
+    }
+
+    // An RSO became active or inactive
+    public void recordRsoStatusChange(Long collegeId, RsoStatus oldStatus, RsoStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        int delta = newStatus == RsoStatus.ACTIVE ? 1 : -1;
+        change(target -> aggregatesFor(target, collegeId).activeRsoCount.addAndGet(delta));
+    }
+
+    // Record a new or changed rating (previousValue is null for a first rating)
+    public void recordRating(Long collegeId, Integer previousValue, int newValue) {
+        change(target -> {
+            CollegeAggregates college = aggregatesFor(target, collegeId);
+            if (previousValue == null) {
+                college.ratingCount.incrementAndGet();
+                college.ratingSum.addAndGet(newValue);
+            } else {
+                college.ratingSum.addAndGet(newValue - previousValue);
+            }
+        });
+    }
+
+    // Record a comment being added (delta = 1) or removed (delta = -1)
+    public void recordComment(Long collegeId, LocalDateTime timestamp, int delta) {
+        change(target -> {
+            CollegeAggregates college = aggregatesFor(target, collegeId);
+            college.commentCount.addAndGet(delta);
+            if (timestamp != null) {
+                add(college.commentsByMonth, YearMonth.from(timestamp), delta);
+            }
+        });
+    }
+
+    // Drop a deleted college
+    public void removeCollege(Long collegeId) {
+        change(target -> target.remove(collegeId));
+    }
+
+    // Apply a change once the transaction commits, and again to the result of a recompute that is running
+    private void change(Consumer<Map<Long, CollegeAggregates>> change) {
+        afterCommit(() -> {
+            recomputeLock.readLock().lock();
+            try {
+                change.accept(aggregates);
+                if (changesDuringRecompute != null) {
+                    changesDuringRecompute.add(change);
+                }
+            } finally {
+                recomputeLock.readLock().unlock();
+            }
+        });
+    }
+
+    private static CollegeAggregates aggregatesFor(Map<Long, CollegeAggregates> target, Long collegeId) {
+        return target.computeIfAbsent(collegeId, id -> new CollegeAggregates());
+    }
+
+    private static void add(Map<YearMonth, AtomicLong> counts, YearMonth month, long delta) {
+        if (month != null) {
+            counts.computeIfAbsent(month, m -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    private static YearMonth month(Integer year, Integer month) {
+        return year == null || month == null ? null : YearMonth.of(year, month);
+    }
+
+    // Months in order, without the ones that dropped back to zero
+    private static Map<String, Long> snapshot(Map<YearMonth, AtomicLong> counts) {
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((month, count) -> {
+            long value = count.get();
+            if (value != 0) {
+                result.put(month.toString(), value);
+            }
+        });
+        return result;
+    }
+
+    // Counters for one college, all lock-free
+    private static final class CollegeAggregates {
+        private final AtomicLongArray eventsByType = new AtomicLongArray(EventType.values().length);
+        private final Map<YearMonth, AtomicLong> eventsByMonth = new ConcurrentHashMap<>();
+        private final AtomicLong pendingApprovals = new AtomicLong();
+        private final AtomicLong rsoCount = new AtomicLong();
+        private final AtomicLong activeRsoCount = new AtomicLong();
+        private final AtomicLong ratingSum = new AtomicLong();
+        private final AtomicLong ratingCount = new AtomicLong();
+        private final AtomicLong commentCount = new AtomicLong();
+        private final Map<YearMonth, AtomicLong> commentsByMonth = new ConcurrentHashMap<>();
+    }
+}
@@ -4,17 +4,26 @@ import edu.ucf.college_event_website.dto.CollegeRequest;
 import edu.ucf.college_event_website.dto.CollegeResponse;
 import edu.ucf.college_event_website.model.*;
 import edu.ucf.college_event_website.repository.*;
+import edu.ucf.college_event_website.util.CollegeSnapshotCache;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.RsoDirectoryCache;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import edu.ucf.college_event_website.util.UserStalenessRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
 
 @Service
 public class CollegeService {
@@ -49,6 +58,33 @@ public class CollegeService {
     @Autowired
     private RsoMembershipRepository rsoMembershipRepository;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private UserStalenessRegistry userStalenessRegistry;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private RsoDirectoryCache rsoDirectoryCache;
+
+    @Autowired
+    private CollegeSnapshotCache collegeSnapshotCache;
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
+
 
     // Helper methods to convert College entity to DTO
     private CollegeResponse convertToDTO(College college) {
@@ -64,15 +100,7 @@ public class CollegeService {
     // Helper method to check if user is authenticated & Super Admin
     private User getAuthenticatedAndSuperAdmin() throws AccessDeniedException {
         // Get authenticated user
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        Optional<User> currentUserOptional = userRepository.findByEmail(email);
-
-        // Check if user exists
-        if(currentUserOptional.isEmpty()) {
-            throw new RuntimeException("User not found");
-        }
-
-        User user = currentUserOptional.get();
+        User user = securityUtils.getCurrentUser();
 
         // Check if user is a super admin
         if(!user.getRole().equals(Role.SUPER_ADMIN))
@@ -83,6 +111,27 @@ public class CollegeService {
         return user;
     }
 
+    // Load every college into the snapshot cache once the application has started
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCollegeSnapshot() {
+        collegeSnapshotCache.load(collegeRepository.findAllWithCreator().stream()
+                .map(this::convertToDTO)
+                .toList());
+    }
+
+    // Bring one college's snapshot entry up to date with the database, after another node changed it
+    @Transactional
+    public void reloadCollege(Long id) {
+        College college = collegeRepository.findById(id).orElse(null);
+        if (college == null) {
+            leaderboardService.removeCollege(id);
+            collegeSnapshotCache.remove(id);
+            collegeAnalyticsService.removeCollege(id);
+        } else {
+            collegeSnapshotCache.put(convertToDTO(college));
+        }
+    }
+
     // Create a new college (Super Admin ONLY)
     public CollegeResponse createCollege(CollegeRequest collegeRequest) throws AccessDeniedException {
         // Get user that is auth and super_admin
@@ -98,25 +147,44 @@ public class CollegeService {
         // Save college to database
         College savedCollege = collegeRepository.save(college);
 
-        // Convert to DTO and return
-        return convertToDTO(savedCollege);
+        // Convert to DTO, publish to the snapshot and return
+        CollegeResponse response = convertToDTO(savedCollege);
+        collegeSnapshotCache.put(response);
+        invalidationPublisher.publish(Invalidation.college(savedCollege.getId()));
+        return response;
 
 
     };
 
     // Get all colleges
     public List<CollegeResponse> getAllColleges() {
-        return collegeRepository.findAll().stream()
-                .map(this::convertToDTO) // Loop and convert each item
-                .collect(Collectors.toList()); // Get a new list
+        ensureSnapshotLoaded();
+        return collegeSnapshotCache.getAll();
+    }
+
+    // Get all colleges, already serialized to JSON
+    @QueryBudget(1)
+    public byte[] getAllCollegesJson() {
+        ensureSnapshotLoaded();
+        return collegeSnapshotCache.getAllJson();
     }
 
     // Get college by ID
+    @QueryBudget(1)
     public CollegeResponse getCollegeById(Long id) {
-        College college = collegeRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("College not found"));
+        ensureSnapshotLoaded();
+        CollegeResponse college = collegeSnapshotCache.get(id);
+        if (college == null) {
+            throw new EntityNotFoundException("College not found");
+        }
+        return college;
+    }
 
-        return convertToDTO(college);
+    // Requests can arrive before the ready event has loaded the snapshot
+    private void ensureSnapshotLoaded() {
+        if (!collegeSnapshotCache.isLoaded()) {
+            loadCollegeSnapshot();
+        }
     }
 
     // Update college (Super Admin ONLY)
@@ -136,8 +204,15 @@ public class CollegeService {
         // Save to database
         College updatedCollege = collegeRepository.save(college);
 
-        // Convert to DTO and return
-        return convertToDTO(updatedCollege);
+        // Convert to DTO, publish to the snapshot and return
+        CollegeResponse response = convertToDTO(updatedCollege);
+        collegeSnapshotCache.put(response);
+        invalidationPublisher.publish(Invalidation.college(id));
+
+        // Event responses show the college name
+        eventJsonCache.invalidateAll();
+        invalidationPublisher.publish(Invalidation.allEvents());
+        return response;
     }
 
     // Delete college (Super Admin ONLY)
@@ -175,6 +250,8 @@ public class CollegeService {
             // Delete RSO
             rsoRepository.delete(rso);
         }
+        rsoDirectoryCache.evictCollege(id);
+        invalidationPublisher.publish(Invalidation.rsoDirectory(id));
 
         // 2. Handle all other events (public and private)
         List<Event> events = eventRepository.findByCollegeId(id);
@@ -207,10 +284,25 @@ public class CollegeService {
             // Set college to null instead of deleting users
             user.setCollege(null);
             userRepository.save(user);
+            userSearchService.index(user);
+
+            // Their tokens still carry the old college (marked after commit, so a reload cannot see the old row)
+            Long userId = user.getId();
+            afterCommit(() -> userStalenessRegistry.markChanged(userId));
+            invalidationPublisher.publish(Invalidation.user(user.getId()));
         }
 
+        // The current user may have been one of them
+        securityUtils.evictCurrentUser();
+
         // 4. Finally delete the college
         collegeRepository.delete(college);
+        leaderboardService.removeCollege(id);
+        collegeSnapshotCache.remove(id);
+        collegeAnalyticsService.removeCollege(id);
+        eventJsonCache.invalidateAll();
+        invalidationPublisher.publish(Invalidation.college(id));
+        invalidationPublisher.publish(Invalidation.allEvents());
     }
 
 
@@ -7,6 +7,9 @@ import edu.ucf.college_event_website.model.Event;
 import edu.ucf.college_event_website.model.User;
 import edu.ucf.college_event_website.repository.CommentRepository;
 import edu.ucf.college_event_website.repository.EventRepository;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +32,18 @@ public class CommentService {
     @Autowired
     private SecurityUtils securityUtils;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
+
     // Convert Comment to CommentResponse
     private CommentResponse convertToDTO(Comment comment) {
         return new CommentResponse(
@@ -58,6 +73,10 @@ public class CommentService {
 
         // Save comment
         Comment savedComment = commentRepository.save(comment);
+        leaderboardService.recordComment(eventId, event.getCollege().getId(), 1);
+        collegeAnalyticsService.recordComment(event.getCollege().getId(), comment.getTimestamp(), 1);
+        eventJsonCache.invalidate(eventId);
+        invalidationPublisher.publish(Invalidation.eventScores(eventId));
 
         // Convert to DTO and return
         return convertToDTO(savedComment);
@@ -116,5 +135,9 @@ public class CommentService {
 
         // Delete comment
         commentRepository.delete(comment);
+        leaderboardService.recordComment(comment.getEvent().getId(), comment.getEvent().getCollege().getId(), -1);
+        collegeAnalyticsService.recordComment(comment.getEvent().getCollege().getId(), comment.getTimestamp(), -1);
+        eventJsonCache.invalidate(comment.getEvent().getId());
+        invalidationPublisher.publish(Invalidation.eventScores(comment.getEvent().getId()));
     }
 }
\ No newline at end of file
@@ -5,6 +5,10 @@ import edu.ucf.college_event_website.dto.EventResponse;
 import edu.ucf.college_event_website.dto.EventUpdateRequest;
 import edu.ucf.college_event_website.model.*;
 import edu.ucf.college_event_website.repository.*;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
+import edu.ucf.college_event_website.util.JsonFragments;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -13,7 +17,12 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,6 +60,18 @@ public class EventService {
     @Autowired
     private SecurityUtils securityUtils;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
+
     // Convert Event to EventResponse
     private EventResponse convertToDTO(Event event) {
         EventResponse.LocationDto locationDto = new EventResponse.LocationDto(
@@ -143,6 +164,10 @@ public class EventService {
             throw e;
         }
 
+        // Public events created by anyone but a super admin wait for approval
+        collegeAnalyticsService.recordEventCreated(college.getId(), savedEvent.getEventType(), savedEvent.getDate(),
+                savedEvent.getEventType() == EventType.PUBLIC && !securityUtils.isSuperAdmin());
+
         // Convert to DTO and return
         return convertToDTO(savedEvent);
     }
@@ -162,6 +187,7 @@ public class EventService {
                 !securityUtils.isSuperAdmin()) {
             throw new AccessDeniedException("You do not have permission to update this event");
         }
+        LocalDate previousDate = event.getDate();
 
         // Get location if changed
         if (request.getLocationId() != null) {
@@ -180,6 +206,9 @@ public class EventService {
 
         // Save updated event with flush
         Event updatedEvent = eventRepository.saveAndFlush(event);
+        collegeAnalyticsService.recordEventRescheduled(event.getCollege().getId(), previousDate, updatedEvent.getDate());
+        eventJsonCache.invalidate(id);
+        invalidationPublisher.publish(Invalidation.event(id));
 
         // Convert to DTO and return
         return convertToDTO(updatedEvent);
@@ -201,6 +230,12 @@ public class EventService {
             throw new AccessDeniedException("You do not have permission to delete this event");
         }
 
+        // Take the event out of the college analytics while its ratings and comments still exist
+        boolean pending = event.getEventType() == EventType.PUBLIC && publicEventRepository.findById(id)
+                .map(publicEvent -> !Boolean.TRUE.equals(publicEvent.getApproved()))
+                .orElse(false);
+        collegeAnalyticsService.recordEventDeleted(event, pending);
+
         // Delete specialized event record first
         try {
             switch (event.getEventType()) {
@@ -233,6 +268,9 @@ public class EventService {
         // Delete the event
         eventRepository.delete(event);
         eventRepository.flush();
+        leaderboardService.removeEvent(id);
+        eventJsonCache.remove(id);
+        invalidationPublisher.publish(Invalidation.eventRemoved(id));
     }
 
     // Get event by ID (with access check)
@@ -253,8 +291,29 @@ public class EventService {
         return convertToDTO(event);
     }
 
+    // Get event by ID as JSON (with access check), from the cache unless the event changed
+    public EventJsonCache.Fragment getEventJsonById(Long id) {
+        long readStartedAt = eventJsonCache.startRead();
+
+        // Get authenticated user
+        User currentUser = securityUtils.getCurrentUser();
+
+        // Find event
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+
+        // Check if user has access to this event
+        if (!userHasAccessToEvent(event, currentUser)) {
+            throw new AccessDeniedException("You do not have permission to view this event");
+        }
+
+        return eventJsonCache.get(id, readStartedAt, () -> convertToDTO(event));
+    }
+
     // Get all events accessible by current user
-    public List<EventResponse> getEventsForCurrentUser() {
+    public JsonFragments getEventsForCurrentUser() {
+        long readStartedAt = eventJsonCache.startRead();
+
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
@@ -262,18 +321,37 @@ public class EventService {
         List<Event> allEvents = eventRepository.findAll();
 
         // Filter events based on user access
-        List<Event> accessibleEvents = allEvents.stream()
-                .filter(event -> userHasAccessToEvent(event, currentUser))
-                .collect(Collectors.toList());
+        List<Event> accessibleEvents = filterAccessible(allEvents, currentUser);
 
-        // Convert to DTOs and return
-        return accessibleEvents.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Serve as JSON and return
+        return toJson(accessibleEvents, readStartedAt);
+    }
+
+    // Get the accessible events among the given IDs, keeping the order of the IDs
+    public JsonFragments getAccessibleEventsInOrder(List<Long> eventIds, int limit) {
+        long readStartedAt = eventJsonCache.startRead();
+
+        // Get authenticated user
+        User currentUser = securityUtils.getCurrentUser();
+
+        // Load all candidates in one query
+        Map<Long, Event> eventsById = eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        // Filter events based on user access, keeping the first ones
+        List<Event> candidates = eventIds.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return toJson(filterAccessible(candidates, currentUser).stream()
+                .limit(limit)
+                .toList(), readStartedAt);
     }
 
     // Get events by type
-    public List<EventResponse> getEventsByType(EventType eventType) {
+    public JsonFragments getEventsByType(EventType eventType) {
+        long readStartedAt = eventJsonCache.startRead();
+
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
@@ -281,18 +359,16 @@ public class EventService {
         List<Event> events = eventRepository.findByEventType(eventType);
 
         // Filter events based on user access
-        List<Event> accessibleEvents = events.stream()
-                .filter(event -> userHasAccessToEvent(event, currentUser))
-                .toList();
+        List<Event> accessibleEvents = filterAccessible(events, currentUser);
 
-        // Convert to DTOs and return
-        return accessibleEvents.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Serve as JSON and return
+        return toJson(accessibleEvents, readStartedAt);
     }
 
     // Get events by college
-    public List<EventResponse> getEventsByCollege(Long collegeId) {
+    public JsonFragments getEventsByCollege(Long collegeId) {
+        long readStartedAt = eventJsonCache.startRead();
+
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
@@ -300,14 +376,42 @@ public class EventService {
         List<Event> events = eventRepository.findByCollegeId(collegeId);
 
         // Filter events based on user access
-        List<Event> accessibleEvents = events.stream()
-                .filter(event -> userHasAccessToEvent(event, currentUser))
+        List<Event> accessibleEvents = filterAccessible(events, currentUser);
+
+        // Serve as JSON and return
+        return toJson(accessibleEvents, readStartedAt);
+    }
+
+    // Keep the events the user has access to, in order. Same rules as userHasAccessToEvent,
+    // but with at most two queries however many events there are.
+    private List<Event> filterAccessible(List<Event> events, User user) {
+        // Super admins can access all events
+        if (securityUtils.isSuperAdmin()) {
+            return events;
+        }
+
+        List<Long> publicIds = idsOfType(events, EventType.PUBLIC);
+        Set<Long> approvedIds = publicIds.isEmpty() ? Set.of()
+                : new HashSet<>(publicEventRepository.findApprovedIdsIn(publicIds));
+        List<Long> rsoIds = idsOfType(events, EventType.RSO);
+        Set<Long> memberIds = rsoIds.isEmpty() ? Set.of()
+                : new HashSet<>(rsoEventRepository.findIdsInRsosOfUser(user.getId(), rsoIds));
+
+        return events.stream()
+                .filter(event -> switch (event.getEventType()) {
+                    case PUBLIC -> approvedIds.contains(event.getId());
+                    case PRIVATE -> user.getCollege() != null
+                            && user.getCollege().getId().equals(event.getCollege().getId());
+                    case RSO -> memberIds.contains(event.getId());
+                })
                 .toList();
+    }
 
-        // Convert to DTOs and return
-        return accessibleEvents.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    private static List<Long> idsOfType(List<Event> events, EventType type) {
+        return events.stream()
+                .filter(event -> event.getEventType() == type)
+                .map(Event::getId)
+                .toList();
     }
 
     // Check if user has access to event
@@ -384,7 +488,9 @@ public class EventService {
     }
 
     // Get events by date range
-    public List<EventResponse> getEventsByDateRange(LocalDate startDate, LocalDate endDate) {
+    public JsonFragments getEventsByDateRange(LocalDate startDate, LocalDate endDate) {
+        long readStartedAt = eventJsonCache.startRead();
+
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
@@ -392,18 +498,16 @@ public class EventService {
         List<Event> events = eventRepository.findByDateBetween(startDate, endDate);
 
         // Filter events based on user access
-        List<Event> accessibleEvents = events.stream()
-                .filter(event -> userHasAccessToEvent(event, currentUser))
-                .toList();
+        List<Event> accessibleEvents = filterAccessible(events, currentUser);
 
-        // Convert to DTOs and return
-        return accessibleEvents.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Serve as JSON and return
+        return toJson(accessibleEvents, readStartedAt);
     }
 
     // Get events by RSO
-    public List<EventResponse> getEventsByRso(Long rsoId) {
+    public JsonFragments getEventsByRso(Long rsoId) {
+        long readStartedAt = eventJsonCache.startRead();
+
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
@@ -423,9 +527,14 @@ public class EventService {
         // Get events
         List<Event> events = eventRepository.findAllById(eventIds);
 
-        // Convert to DTOs and return
-        return events.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Serve as JSON and return
+        return toJson(events, readStartedAt);
+    }
+
+    // Each event's cached JSON, building the response only for events changed since it was cached
+    private JsonFragments toJson(List<Event> events, long readStartedAt) {
+        return new JsonFragments(events.stream()
+                .map(event -> eventJsonCache.get(event.getId(), readStartedAt, () -> convertToDTO(event)).json())
+                .toList());
     }
 }
\ No newline at end of file
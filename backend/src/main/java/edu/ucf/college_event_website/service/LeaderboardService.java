@@ -0,0 +1,362 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.repository.CommentRepository;
+import edu.ucf.college_event_website.repository.EventRepository;
+import edu.ucf.college_event_website.repository.RatingRepository;
+import edu.ucf.college_event_website.util.QueryBudget;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Keeps in-memory top-K boards of events, per college and globally.
+ * "Top rated" uses a Bayesian average so an event with one 5-star rating does not
+ * outrank one with hundreds of 4-star ratings; "most discussed" uses the comment count.
+ * Boards are updated incrementally by the rating and comment write paths once their
+ * transaction commits, so a rolled back write never moves an event, and only hold event IDs.
+ * Visibility is checked by the caller at read time.
+ */
+@Service
+public class LeaderboardService {
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    // Number of events kept per board
+    @Value("${app.leaderboard.size:100}")
+    private int boardSize;
+
+    // Weight (in ratings) and value of the prior in the Bayesian average
+    @Value("${app.leaderboard.prior-weight:5}")
+    private double priorWeight;
+
+    @Value("${app.leaderboard.prior-mean:3.0}")
+    private double priorMean;
+
+    // Running totals for every event that has been rated or commented on
+    private final Map<Long, EventStats> statsByEvent = new ConcurrentHashMap<>();
+
+    private final Map<Long, Board> topRatedByCollege = new ConcurrentHashMap<>();
+    private final Map<Long, Board> mostDiscussedByCollege = new ConcurrentHashMap<>();
+    private Board topRated;
+    private Board mostDiscussed;
+
+    // Writers are serialized, readers iterate the skip lists without locking
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @PostConstruct
+    public void createBoards() {
+        topRated = new Board(boardSize);
+        mostDiscussed = new Board(boardSize);
+    }
+
+    // Seed the boards from the database once the application has started
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        writeLock.lock();
+        try {
+            statsByEvent.clear();
+            for (RatingRepository.EventRatingTotals totals : ratingRepository.findRatingTotalsPerEvent()) {
+                EventStats stats = statsFor(totals.getEventId(), totals.getCollegeId());
+                stats.ratingSum = totals.getRatingSum();
+                stats.ratingCount = totals.getRatingCount();
+            }
+            for (CommentRepository.EventCommentTotals totals : commentRepository.findCommentTotalsPerEvent()) {
+                statsFor(totals.getEventId(), totals.getCollegeId()).commentCount = totals.getCommentCount();
+            }
+            rebuildAll();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Find the college of an event, from the running totals when possible (null if the event does not exist)
+    public Long getCollegeId(Long eventId) {
+        EventStats stats = statsByEvent.get(eventId);
+        return stats != null ? stats.collegeId : eventRepository.findCollegeIdById(eventId).orElse(null);
+    }
+
+    // Record a new or changed rating once the transaction commits (previousValue is null for a first rating)
+    public void recordRating(Long eventId, Long collegeId, Integer previousValue, int newValue) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                EventStats stats = statsFor(eventId, collegeId);
+                if (previousValue == null) {
+                    stats.ratingCount++;
+                    stats.ratingSum += newValue;
+                } else {
+                    stats.ratingSum += newValue - previousValue;
+                }
+                updateRated(stats);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    // Record a comment being added (delta = 1) or removed (delta = -1) once the transaction commits
+    public void recordComment(Long eventId, Long collegeId, int delta) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                EventStats stats = statsFor(eventId, collegeId);
+                stats.commentCount = Math.max(0, stats.commentCount + delta);
+                updateDiscussed(stats);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    // Reload one event's totals from the database, after another node changed its ratings or comments
+    public void reloadEvent(Long eventId) {
+        Long collegeId = eventRepository.findCollegeIdById(eventId).orElse(null);
+        if (collegeId == null) {
+            removeEventNow(eventId);
+            return;
+        }
+        RatingRepository.RatingTotals ratings = ratingRepository.findRatingTotalsByEventId(eventId);
+        long comments = commentRepository.countByEventId(eventId);
+
+        writeLock.lock();
+        try {
+            EventStats stats = statsFor(eventId, collegeId);
+            stats.ratingSum = ratings.getRatingSum();
+            stats.ratingCount = ratings.getRatingCount();
+            stats.commentCount = comments;
+            updateRated(stats);
+            updateDiscussed(stats);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Drop a deleted event from every board once the transaction commits
+    public void removeEvent(Long eventId) {
+        afterCommit(() -> removeEventNow(eventId));
+    }
+
+    private void removeEventNow(Long eventId) {
+        writeLock.lock();
+        try {
+            EventStats stats = statsByEvent.remove(eventId);
+            if (stats == null) {
+                return;
+            }
+            topRated.remove(eventId);
+            mostDiscussed.remove(eventId);
+            collegeBoard(topRatedByCollege, stats.collegeId).remove(eventId);
+            collegeBoard(mostDiscussedByCollege, stats.collegeId).remove(eventId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Drop a deleted college and all of its events once the transaction commits
+    public void removeCollege(Long collegeId) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                statsByEvent.values().removeIf(stats -> stats.collegeId.equals(collegeId));
+                topRatedByCollege.remove(collegeId);
+                mostDiscussedByCollege.remove(collegeId);
+                rebuild(topRated, statsByEvent.values(), this::ratedScore);
+                rebuild(mostDiscussed, statsByEvent.values(), this::discussedScore);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    // Event IDs ordered from highest to lowest adjusted rating (collegeId null = all colleges)
+    @QueryBudget(0)
+    public List<Long> getTopRatedEventIds(Long collegeId) {
+        return readBoard(collegeId == null ? topRated : topRatedByCollege.get(collegeId), collegeId,
+                this::ratedScore);
+    }
+
+    // Event IDs ordered from most to least comments (collegeId null = all colleges)
+    @QueryBudget(0)
+    public List<Long> getMostDiscussedEventIds(Long collegeId) {
+        return readBoard(collegeId == null ? mostDiscussed : mostDiscussedByCollege.get(collegeId), collegeId,
+                this::discussedScore);
+    }
+
+    private List<Long> readBoard(Board board, Long collegeId, ToDoubleFunction<EventStats> score) {
+        if (board == null) {
+            return List.of();
+        }
+        if (board.stale) {
+            // An event dropped off a full board, so rebuild it from the running totals
+            writeLock.lock();
+            try {
+                if (board.stale) {
+                    rebuild(board, statsByEvent.values().stream()
+                            .filter(stats -> collegeId == null || stats.collegeId.equals(collegeId))
+                            .toList(), score);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return board.eventIds();
+    }
+
+    private void updateRated(EventStats stats) {
+        double score = ratedScore(stats);
+        topRated.update(stats.eventId, score);
+        collegeBoard(topRatedByCollege, stats.collegeId).update(stats.eventId, score);
+    }
+
+    private void updateDiscussed(EventStats stats) {
+        double score = discussedScore(stats);
+        mostDiscussed.update(stats.eventId, score);
+        collegeBoard(mostDiscussedByCollege, stats.collegeId).update(stats.eventId, score);
+    }
+
+    private double ratedScore(EventStats stats) {
+        if (stats.ratingCount == 0) {
+            return 0;
+        }
+        return (priorWeight * priorMean + stats.ratingSum) / (priorWeight + stats.ratingCount);
+    }
+
+    private double discussedScore(EventStats stats) {
+        return stats.commentCount;
+    }
+
+    private void rebuildAll() {
+        topRated.clear();
+        mostDiscussed.clear();
+        topRatedByCollege.clear();
+        mostDiscussedByCollege.clear();
+        for (EventStats stats : statsByEvent.values()) {
+            updateRated(stats);
+            updateDiscussed(stats);
+        }
+    }
+
+    private void rebuild(Board board, Iterable<EventStats> candidates, ToDoubleFunction<EventStats> score) {
+        board.clear();
+        for (EventStats stats : candidates) {
+            board.update(stats.eventId, score.applyAsDouble(stats));
+        }
+        board.stale = false;
+    }
+
+    private EventStats statsFor(Long eventId, Long collegeId) {
+        return statsByEvent.computeIfAbsent(eventId, id -> new EventStats(id, collegeId));
+    }
+
+    private Board collegeBoard(Map<Long, Board> boards, Long collegeId) {
+        return boards.computeIfAbsent(collegeId, id -> new Board(boardSize));
+    }
+
+    // Running totals for one event (guarded by writeLock)
+    private static final class EventStats {
+        private final Long eventId;
+        private final Long collegeId;
+        private long ratingSum;
+        private long ratingCount;
+        private long commentCount;
+
+        private EventStats(Long eventId, Long collegeId) {
+            this.eventId = eventId;
+            this.collegeId = collegeId;
+        }
+    }
+
+    private record Entry(Long eventId, double score) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : eventId.compareTo(other.eventId);
+        }
+    }
+
+    /**
+     * Bounded top-K set. Mutations happen under the service write lock,
+     * reads walk the skip list directly.
+     */
+    private static final class Board {
+        private final int capacity;
+        private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+        private final Map<Long, Entry> entryByEvent = new HashMap<>();
+        private boolean evicted;
+        private volatile boolean stale;
+
+        private Board(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void update(Long eventId, double score) {
+            Entry previous = entryByEvent.remove(eventId);
+            if (previous != null) {
+                entries.remove(previous);
+            }
+
+            Entry entry = score > 0 ? new Entry(eventId, score) : null;
+            if (entry != null) {
+                if (entries.size() < capacity || entry.compareTo(entries.last()) < 0) {
+                    entries.add(entry);
+                    entryByEvent.put(eventId, entry);
+                    if (entries.size() > capacity) {
+                        Entry lowest = entries.pollLast();
+                        entryByEvent.remove(lowest.eventId());
+                        evicted = true;
+                    }
+                } else {
+                    // Kept off a full board
+                    evicted = true;
+                }
+            }
+
+            // An entry that dropped to the bottom, or off the board, may now rank below an event
+            // that was kept off earlier
+            if (previous != null && evicted && score < previous.score()
+                    && (entry == null || entry.equals(entries.last()))) {
+                stale = true;
+            }
+        }
+
+        private void remove(Long eventId) {
+            Entry previous = entryByEvent.remove(eventId);
+            if (previous != null) {
+                entries.remove(previous);
+                if (evicted) {
+                    stale = true;
+                }
+            }
+        }
+
+        private void clear() {
+            entries.clear();
+            entryByEvent.clear();
+            evicted = false;
+        }
+
+        private List<Long> eventIds() {
+            return entries.stream().map(Entry::eventId).toList();
+        }
+    }
+}
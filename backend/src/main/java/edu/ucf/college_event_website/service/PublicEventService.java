@@ -1,37 +1,77 @@
 package edu.ucf.college_event_website.service;
 
 import edu.ucf.college_event_website.dto.EventResponse;
+import edu.ucf.college_event_website.dto.PendingEventPageResponse;
+import edu.ucf.college_event_website.dto.PublicEventBulkResponse;
+import edu.ucf.college_event_website.model.EventType;
 import edu.ucf.college_event_website.model.Event;
 import edu.ucf.college_event_website.model.PublicEvent;
 import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.CommentRepository;
 import edu.ucf.college_event_website.repository.EventRepository;
 import edu.ucf.college_event_website.repository.PublicEventRepository;
+import edu.ucf.college_event_website.repository.RatingRepository;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class PublicEventService {
 
+    private static final int MAX_QUEUE_PAGE_SIZE = 100;
+
     @Autowired
     private PublicEventRepository publicEventRepository;
 
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
     @Autowired
     private SecurityUtils securityUtils;
 
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
+
+    // Most events one bulk approve or reject may name
+    @Value("${app.public-events.bulk-max:500}")
+    private int bulkMax;
+
     // Get all pending public events (Super Admin only)
+    @QueryBudget(3)
     public List<EventResponse> getPendingPublicEvents() {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
@@ -41,15 +81,144 @@ public class PublicEventService {
             throw new AccessDeniedException("Only super admins can view pending public events");
         }
 
-        // Get pending events
-        List<PublicEvent> pendingEvents = publicEventRepository.findByApproved(false);
-
-        // Convert to event responses
-        return pendingEvents.stream()
-                .map(publicEvent -> eventService.getEventById(publicEvent.getId()))
+        // Get pending events in one joined query and convert to event responses
+        return publicEventRepository.findPendingPage(null, Limit.unlimited()).stream()
+                .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    // Get one page of the approval queue, oldest first (Super Admin only)
+    @QueryBudget(1)
+    public PendingEventPageResponse getPendingPublicEventsPage(Long afterId, int size) {
+        // Check if user is super admin
+        if (!securityUtils.isSuperAdmin()) {
+            throw new AccessDeniedException("Only super admins can view pending public events");
+        }
+        size = Math.min(Math.max(1, size), MAX_QUEUE_PAGE_SIZE);
+
+        // Fetch one extra row to know if there is a next page
+        List<PublicEventRepository.PendingEventRow> rows =
+                publicEventRepository.findPendingPage(afterId, Limit.of(size + 1));
+        boolean hasMore = rows.size() > size;
+        List<EventResponse> events = rows.stream()
+                .limit(size)
+                .map(this::convertToDTO)
+                .toList();
+
+        Long nextAfterId = hasMore ? events.get(events.size() - 1).getId() : null;
+        return new PendingEventPageResponse(events, hasMore, nextAfterId);
+    }
+
+    // Approve many pending public events with one UPDATE (Super Admin only)
+    @Transactional
+    @QueryBudget(4)
+    public PublicEventBulkResponse approvePublicEvents(List<Long> eventIds) {
+        // Get authenticated user
+        User currentUser = securityUtils.getCurrentUser();
+
+        // Check if user is super admin
+        if (!securityUtils.isSuperAdmin()) {
+            throw new AccessDeniedException("Only super admins can approve public events");
+        }
+
+        Set<Long> requested = requestedIds(eventIds);
+        if (requested.isEmpty()) {
+            return new PublicEventBulkResponse(List.of(), List.of());
+        }
+
+        List<PublicEventRepository.PendingEventRef> pending = publicEventRepository.findPendingByIdIn(requested);
+        List<Long> pendingIds = pending.stream().map(PublicEventRepository.PendingEventRef::getEventId).toList();
+        if (!pendingIds.isEmpty()) {
+            publicEventRepository.approveAllByIdIn(pendingIds, currentUser);
+            collegeAnalyticsService.recordApprovals(pending);
+            for (Long id : pendingIds) {
+                eventJsonCache.invalidate(id);
+                invalidationPublisher.publish(Invalidation.event(id));
+            }
+        }
+        return bulkResponse(requested, pendingIds);
+    }
+
+    // Reject many pending public events with one DELETE per table (Super Admin only)
+    @Transactional
+    @QueryBudget(8)
+    public PublicEventBulkResponse rejectPublicEvents(List<Long> eventIds) {
+        // Check if user is super admin
+        if (!securityUtils.isSuperAdmin()) {
+            throw new AccessDeniedException("Only super admins can reject public events");
+        }
+
+        Set<Long> requested = requestedIds(eventIds);
+        if (requested.isEmpty()) {
+            return new PublicEventBulkResponse(List.of(), List.of());
+        }
+
+        List<PublicEventRepository.PendingEventRef> pending = publicEventRepository.findPendingByIdIn(requested);
+        List<Long> pendingIds = pending.stream().map(PublicEventRepository.PendingEventRef::getEventId).toList();
+        if (!pendingIds.isEmpty()) {
+            collegeAnalyticsService.recordPendingEventsDeleted(pending);
+
+            // Children first, then the events themselves
+            commentRepository.deleteAllByEventIdIn(pendingIds);
+            ratingRepository.deleteAllByEventIdIn(pendingIds);
+            if (publicEventRepository.deletePendingByIdIn(pendingIds) != pendingIds.size()) {
+                throw new IllegalStateException("Some events were approved while being rejected, please retry");
+            }
+            eventRepository.deleteAllByIdIn(pendingIds);
+            for (Long id : pendingIds) {
+                leaderboardService.removeEvent(id);
+                eventJsonCache.remove(id);
+                invalidationPublisher.publish(Invalidation.eventRemoved(id));
+            }
+        }
+        return bulkResponse(requested, pendingIds);
+    }
+
+    private Set<Long> requestedIds(List<Long> eventIds) {
+        Set<Long> requested = new LinkedHashSet<>();
+        if (eventIds != null) {
+            eventIds.stream().filter(Objects::nonNull).forEach(requested::add);
+        }
+        if (requested.size() > bulkMax) {
+            throw new IllegalArgumentException("At most " + bulkMax + " events can be processed at once");
+        }
+        return requested;
+    }
+
+    private static PublicEventBulkResponse bulkResponse(Set<Long> requested, List<Long> processed) {
+        Set<Long> done = new HashSet<>(processed);
+        List<Long> skipped = requested.stream().filter(id -> !done.contains(id)).toList();
+        return new PublicEventBulkResponse(List.copyOf(processed), skipped);
+    }
+
+    // Build the queue entry from its projected row, no further queries
+    private EventResponse convertToDTO(PublicEventRepository.PendingEventRow row) {
+        EventResponse.LocationDto locationDto = new EventResponse.LocationDto(
+                row.getLocationId(),
+                row.getLocationName(),
+                row.getLocationAddress(),
+                row.getLatitude().doubleValue(),
+                row.getLongitude().doubleValue()
+        );
+
+        return new EventResponse(
+                row.getId(),
+                row.getName(),
+                row.getDescription(),
+                row.getTime(),
+                row.getDate(),
+                locationDto,
+                row.getCreatorFirstName() + " " + row.getCreatorLastName(),
+                row.getCollegeName(),
+                EventType.PUBLIC,
+                row.getContactPhone(),
+                row.getContactEmail(),
+                row.getAverageRating() == null ? 0.0 : row.getAverageRating(),
+                row.getCommentCount().intValue(),
+                false
+        );
+    }
+
     // Approve a public event (Super Admin only)
     @Transactional
     public EventResponse approvePublicEvent(Long eventId) {
@@ -66,11 +235,16 @@ public class PublicEventService {
                 .orElseThrow(() -> new EntityNotFoundException("Public event not found"));
 
         // Update approval status
+        if (!Boolean.TRUE.equals(publicEvent.getApproved())) {
+            collegeAnalyticsService.recordApproval(publicEvent.getEvent().getCollege().getId());
+        }
         publicEvent.setApproved(true);
         publicEvent.setSuperAdmin(currentUser);
 
         // Save updated public event
         publicEventRepository.saveAndFlush(publicEvent);
+        eventJsonCache.invalidate(eventId);
+        invalidationPublisher.publish(Invalidation.event(eventId));
 
         // Return updated event response
         return eventService.getEventById(eventId);
@@ -95,6 +269,8 @@ public class PublicEventService {
         PublicEvent publicEvent = publicEventRepository.findById(eventId)
                 .orElseThrow(() -> new EntityNotFoundException("Public event not found"));
 
+        collegeAnalyticsService.recordEventDeleted(event, !Boolean.TRUE.equals(publicEvent.getApproved()));
+
         // Delete public event
         publicEventRepository.delete(publicEvent);
         publicEventRepository.flush();
@@ -102,5 +278,8 @@ public class PublicEventService {
         // Delete the event
         eventRepository.delete(event);
         eventRepository.flush();
+        leaderboardService.removeEvent(eventId);
+        eventJsonCache.remove(eventId);
+        invalidationPublisher.publish(Invalidation.eventRemoved(eventId));
     }
 }
\ No newline at end of file
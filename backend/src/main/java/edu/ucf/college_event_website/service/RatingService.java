@@ -2,70 +2,116 @@ package edu.ucf.college_event_website.service;
 
 import edu.ucf.college_event_website.dto.RatingRequest;
 import edu.ucf.college_event_website.dto.RatingResponse;
-import edu.ucf.college_event_website.model.Event;
-import edu.ucf.college_event_website.model.Rating;
-import edu.ucf.college_event_website.model.RatingKey;
 import edu.ucf.college_event_website.model.User;
-import edu.ucf.college_event_website.repository.EventRepository;
 import edu.ucf.college_event_website.repository.RatingRepository;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.sql.SQLException;
+
 @Service
 public class RatingService {
 
+    // ER_NO_REFERENCED_ROW_2
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
+    // H2 REFERENTIAL_INTEGRITY_VIOLATED_PARENT_MISSING
+    private static final String H2_REFERENCED_ROW_MISSING = "23506";
+
     @Autowired
     private RatingRepository ratingRepository;
 
     @Autowired
-    private EventRepository eventRepository;
+    private SecurityUtils securityUtils;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
 
     @Autowired
-    private SecurityUtils securityUtils;
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
 
     // Rate an event
+    @Transactional
     public RatingResponse rateEvent(Long eventId, RatingRequest request) {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find event
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+        // Ratings are 1-5 stars
+        if (request.getRating() == null || request.getRating() < 1 || request.getRating() > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
 
         // Create or update rating
-        Rating rating = new Rating();
-        RatingKey ratingKey = new RatingKey(currentUser.getId(), eventId);
-        rating.setId(ratingKey);
-        rating.setUser(currentUser);
-        rating.setEvent(event);
-        rating.setRatingValue(request.getRating());
-
-        // Save rating
-        ratingRepository.save(rating);
+        Integer previousRating = upsertRating(currentUser.getId(), eventId, request.getRating());
 
-        // Calculate average rating
-        Double averageRating = ratingRepository.calculateAverageRating(eventId);
-        if (averageRating == null) averageRating = 0.0;
+        // Update the leaderboards with the change
+        Long collegeId = leaderboardService.getCollegeId(eventId);
+        if (collegeId != null) {
+            leaderboardService.recordRating(eventId, collegeId, previousRating, request.getRating());
+            collegeAnalyticsService.recordRating(collegeId, previousRating, request.getRating());
+        }
+        eventJsonCache.invalidate(eventId);
+        invalidationPublisher.publish(Invalidation.eventScores(eventId));
 
-        // Count total ratings
-        long totalRatings = ratingRepository.count();
+        return ratingSummary(eventId);
+    }
 
-        // Return response
-        return new RatingResponse(eventId, averageRating, (int) totalRatings);
+    // Write a rating and return the value it replaced (null if new). The insert goes first: a new
+    // rating is one statement, and two first ratings racing each other serialize on the key instead
+    // of both taking a gap lock and deadlocking. Only a rating that already exists is read, then updated.
+    private Integer upsertRating(Long userId, Long eventId, Integer ratingValue) {
+        int inserted;
+        try {
+            inserted = ratingRepository.insertRatingIfAbsent(userId, eventId, ratingValue);
+        } catch (DataIntegrityViolationException e) {
+            // No event lookup up front: a missing event fails the foreign key
+            if (isMissingParent(e)) {
+                throw new EntityNotFoundException("Event not found");
+            }
+            throw e;
+        }
+        if (inserted == 1) {
+            return null;
+        }
+        Integer previousRating = ratingRepository.findRatingValueForUpdate(userId, eventId);
+        if (previousRating == null) {
+            // Nothing inserted and nothing there: MySQL ignored the foreign key error of a missing event
+            throw new EntityNotFoundException("Event not found");
+        }
+        ratingRepository.updateRatingValue(userId, eventId, ratingValue);
+        return previousRating;
     }
 
     // Get event rating
     public RatingResponse getEventRating(Long eventId) {
-        // Calculate average rating
-        Double averageRating = ratingRepository.calculateAverageRating(eventId);
-        if (averageRating == null) averageRating = 0.0;
+        return ratingSummary(eventId);
+    }
 
-        // Count total ratings
-        long totalRatings = ratingRepository.count();
+    // Average and number of ratings of an event, in one query
+    private RatingResponse ratingSummary(Long eventId) {
+        RatingRepository.RatingTotals totals = ratingRepository.findRatingTotalsByEventId(eventId);
+        long count = totals.getRatingCount();
+        double averageRating = count == 0 ? 0.0 : (double) totals.getRatingSum() / count;
+        return new RatingResponse(eventId, averageRating, (int) count);
+    }
 
-        // Return response
-        return new RatingResponse(eventId, averageRating, (int) totalRatings);
+    // A foreign key pointing at a missing row, as opposed to a duplicate key or any other violation.
+    // The rating's user is the signed in user, so on insert that leaves the event.
+    private static boolean isMissingParent(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql
+                && (sql.getErrorCode() == MYSQL_NO_REFERENCED_ROW || H2_REFERENCED_ROW_MISSING.equals(sql.getSQLState()));
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,49 @@
 package edu.ucf.college_event_website.service;
 
+import edu.ucf.college_event_website.dto.RsoDirectoryResponse;
+import edu.ucf.college_event_website.dto.RsoMemberPageResponse;
+import edu.ucf.college_event_website.dto.RsoMemberResponse;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkRequest;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse.Outcome;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse.Status;
+import edu.ucf.college_event_website.dto.RsoSummaryResponse;
 import edu.ucf.college_event_website.model.*;
 import edu.ucf.college_event_website.repository.CollegeRepository;
 import edu.ucf.college_event_website.repository.RsoMembershipRepository;
 import edu.ucf.college_event_website.repository.RsoRepository;
 import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.RsoDirectoryCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
 import edu.ucf.college_event_website.util.SecurityUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class RsoService {
 
+    private static final int MAX_MEMBER_PAGE_SIZE = 100;
+
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 100;
+
     @Autowired
     private RsoRepository rsoRepository;
 
@@ -32,11 +59,77 @@ public class RsoService {
     @Autowired
     private SecurityUtils securityUtils;
 
+    @Autowired
+    private RsoDirectoryCache rsoDirectoryCache;
+
+    @Autowired
+    private InvalidationPublisher invalidationPublisher;
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    // Most users one bulk membership request may name
+    @Value("${app.rso.bulk-max-users:1000}")
+    private int bulkMaxUsers;
+
+    // Members an RSO needs to be ACTIVE
+    @Value("${app.rso.active-member-threshold:5}")
+    private int activeMemberThreshold;
+
     // Get all RSOs
     public List<Rso> getAllRsos() {
         return rsoRepository.findAll();
     }
 
+    /**
+     * Get one page of a college's RSO directory, in name order.
+     * Defaults to the current user's college; the first page of each college is cached.
+     */
+    @QueryBudget(4)
+    public RsoDirectoryResponse getRsoDirectory(Long collegeId, RsoStatus status, String namePrefix,
+                                                String afterName, Long afterId, int size) {
+        if (collegeId == null) {
+            User currentUser = securityUtils.getCurrentUser();
+            if (currentUser.getCollege() == null) {
+                throw new IllegalArgumentException("College ID is required");
+            }
+            collegeId = currentUser.getCollege().getId();
+        }
+        if (afterName != null && afterId == null) {
+            throw new IllegalArgumentException("afterId is required with afterName");
+        }
+        size = Math.min(Math.max(1, size), MAX_DIRECTORY_PAGE_SIZE);
+        String prefix = namePrefix == null || namePrefix.isBlank() ? null : namePrefix.trim();
+
+        boolean firstPage = prefix == null && afterName == null;
+        if (firstPage) {
+            RsoDirectoryResponse cached = rsoDirectoryCache.get(collegeId, status, size);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        long version = rsoDirectoryCache.version(collegeId);
+
+        // Fetch one extra row to know if there is a next page
+        List<RsoRepository.RsoDirectoryRow> rows = rsoRepository.findDirectoryPage(collegeId, status,
+                prefix == null ? null : escapeLike(prefix), afterName, afterId, Limit.of(size + 1));
+        boolean hasMore = rows.size() > size;
+        List<RsoSummaryResponse> rsos = rows.stream()
+                .limit(size)
+                .map(row -> new RsoSummaryResponse(row.getId(), row.getName(), row.getDescription(),
+                        row.getStatus() == null ? null : row.getStatus().name(), row.getMemberCount()))
+                .toList();
+
+        RsoSummaryResponse last = hasMore ? rsos.get(rsos.size() - 1) : null;
+        RsoDirectoryResponse page = new RsoDirectoryResponse(rsos, hasMore,
+                last == null ? null : last.getName(), last == null ? null : last.getId());
+
+        if (firstPage) {
+            rsoDirectoryCache.put(collegeId, status, size, version, page);
+        }
+        return page;
+    }
+
     // Get RSOs administered by current user
     public List<Rso> getRsosByCurrentAdmin() {
         User currentUser = securityUtils.getCurrentUser();
@@ -73,10 +166,16 @@ public class RsoService {
         // Set admin and college properly
         rso.setAdmin(currentUser);
         rso.setCollege(college); // Set the full college object
-        rso.setStatus(RsoStatus.ACTIVE);
+
+        // The admin is the first member
+        rso.setMemberCount(1);
+        rso.setStatus(1 >= activeMemberThreshold ? RsoStatus.ACTIVE : RsoStatus.INACTIVE);
 
         // Save RSO
         Rso savedRso = rsoRepository.save(rso);
+        rsoDirectoryCache.evictCollege(college.getId());
+        invalidationPublisher.publish(Invalidation.rsoDirectory(college.getId()));
+        collegeAnalyticsService.recordRso(college.getId(), savedRso.getStatus(), 1);
 
         // Add admin as a member
         RsoMembership membership = new RsoMembership();
@@ -96,8 +195,8 @@ public class RsoService {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find RSO
-        Rso existingRso = rsoRepository.findById(id)
+        // Find RSO and lock its row
+        Rso existingRso = rsoRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
 
         // Check if current user is the admin of the RSO
@@ -105,6 +204,9 @@ public class RsoService {
             throw new AccessDeniedException("Only the RSO admin can update this RSO");
         }
 
+        rsoDirectoryCache.evictCollege(existingRso.getCollege().getId());
+        invalidationPublisher.publish(Invalidation.rsoDirectory(existingRso.getCollege().getId()));
+
         // Update RSO fields
         existingRso.setName(updatedRso.getName());
         existingRso.setDescription(updatedRso.getDescription());
@@ -113,7 +215,13 @@ public class RsoService {
         if (updatedRso.getCollege() != null) {
             College college = collegeRepository.findById(updatedRso.getCollege().getId())
                     .orElseThrow(() -> new EntityNotFoundException("College not found"));
+            if (!college.getId().equals(existingRso.getCollege().getId())) {
+                collegeAnalyticsService.recordRso(existingRso.getCollege().getId(), existingRso.getStatus(), -1);
+                collegeAnalyticsService.recordRso(college.getId(), existingRso.getStatus(), 1);
+            }
             existingRso.setCollege(college);
+            rsoDirectoryCache.evictCollege(college.getId());
+            invalidationPublisher.publish(Invalidation.rsoDirectory(college.getId()));
         }
 
         // Save updated RSO
@@ -126,8 +234,8 @@ public class RsoService {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find RSO
-        Rso rso = rsoRepository.findById(id)
+        // Find RSO and lock its row
+        Rso rso = rsoRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
 
         // Check if current user is the admin of the RSO
@@ -140,6 +248,9 @@ public class RsoService {
 
         // Delete the RSO
         rsoRepository.delete(rso);
+        rsoDirectoryCache.evictCollege(rso.getCollege().getId());
+        invalidationPublisher.publish(Invalidation.rsoDirectory(rso.getCollege().getId()));
+        collegeAnalyticsService.recordRso(rso.getCollege().getId(), rso.getStatus(), -1);
     }
 
     // Get RSO members
@@ -152,14 +263,34 @@ public class RsoService {
         return rsoMembershipRepository.findByRsoId(rsoId);
     }
 
+    // Get one page of RSO members as compact rows
+    @QueryBudget(3)
+    public RsoMemberPageResponse getRsoMembersPage(Long rsoId, int page, int size) {
+        // Check if RSO exists
+        if (!rsoRepository.existsById(rsoId)) {
+            throw new EntityNotFoundException("RSO not found");
+        }
+
+        PageRequest pageRequest = PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_MEMBER_PAGE_SIZE));
+        Page<RsoMembershipRepository.RsoMemberRow> rows =
+                rsoMembershipRepository.findMemberRowsByRsoId(rsoId, pageRequest);
+
+        List<RsoMemberResponse> members = rows.getContent().stream()
+                .map(row -> new RsoMemberResponse(row.getUserId(), row.getFirstName(), row.getLastName(),
+                        row.getEmail(), row.getJoinedAt()))
+                .toList();
+        return new RsoMemberPageResponse(members, rows.getNumber(), rows.getSize(),
+                rows.getTotalElements(), rows.getTotalPages());
+    }
+
     // Join RSO
     @Transactional
     public void joinRso(Long rsoId) {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find RSO
-        Rso rso = rsoRepository.findById(rsoId)
+        // Find RSO and lock its row
+        Rso rso = rsoRepository.findByIdForUpdate(rsoId)
                 .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
 
         // Check if user is already a member
@@ -176,6 +307,7 @@ public class RsoService {
 
         // Save membership
         rsoMembershipRepository.save(membership);
+        changeMemberCount(rso, 1);
     }
 
     // Leave RSO
@@ -184,8 +316,8 @@ public class RsoService {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find RSO
-        Rso rso = rsoRepository.findById(rsoId)
+        // Find RSO and lock its row
+        Rso rso = rsoRepository.findByIdForUpdate(rsoId)
                 .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
 
         // Check if user is a member
@@ -200,6 +332,7 @@ public class RsoService {
 
         // Remove membership
         rsoMembershipRepository.deleteByUserIdAndRsoId(currentUser.getId(), rsoId);
+        changeMemberCount(rso, -1);
     }
 
     /**
@@ -210,8 +343,8 @@ public class RsoService {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find RSO
-        Rso rso = rsoRepository.findById(rsoId)
+        // Find RSO and lock its row
+        Rso rso = rsoRepository.findByIdForUpdate(rsoId)
                 .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
 
         // Check if current user is admin of this RSO
@@ -237,6 +370,7 @@ public class RsoService {
 
         // Save membership
         rsoMembershipRepository.save(membership);
+        changeMemberCount(rso, 1);
     }
 
     /**
@@ -247,8 +381,8 @@ public class RsoService {
         // Get authenticated user
         User currentUser = securityUtils.getCurrentUser();
 
-        // Find RSO
-        Rso rso = rsoRepository.findById(rsoId)
+        // Find RSO and lock its row
+        Rso rso = rsoRepository.findByIdForUpdate(rsoId)
                 .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
 
         // Check if current user is admin of this RSO
@@ -268,5 +402,166 @@ public class RsoService {
 
         // Remove membership
         rsoMembershipRepository.deleteByUserIdAndRsoId(userId, rsoId);
+        changeMemberCount(rso, -1);
+    }
+
+    /**
+     * Add and remove many RSO members at once (admin only).
+     * Users are resolved with one query, existing memberships with another,
+     * and the changes are written as two JDBC batches.
+     */
+    @Transactional
+    @QueryBudget(8)
+    public RsoMembershipBulkResponse bulkUpdateMembers(Long rsoId, RsoMembershipBulkRequest request) {
+        // Get authenticated user
+        User currentUser = securityUtils.getCurrentUser();
+
+        // Find RSO and lock its row
+        Rso rso = rsoRepository.findByIdForUpdate(rsoId)
+                .orElseThrow(() -> new EntityNotFoundException("RSO not found"));
+
+        // Check if current user is admin of this RSO
+        if (!rso.getAdmin().getId().equals(currentUser.getId()) && !securityUtils.isSuperAdmin()) {
+            throw new AccessDeniedException("Only the RSO admin can manage members");
+        }
+
+        List<Long> addIds = nullToEmpty(request.getAddUserIds());
+        List<String> addEmails = normalizeEmails(request.getAddEmails());
+        List<Long> removeIds = nullToEmpty(request.getRemoveUserIds());
+        List<String> removeEmails = normalizeEmails(request.getRemoveEmails());
+
+        int requested = addIds.size() + addEmails.size() + removeIds.size() + removeEmails.size();
+        if (requested > bulkMaxUsers) {
+            throw new IllegalArgumentException("At most " + bulkMaxUsers + " users can be updated at once");
+        }
+
+        // Resolve every requested user in one query
+        Set<Long> allIds = new HashSet<>(addIds);
+        allIds.addAll(removeIds);
+        Set<String> allEmails = new HashSet<>(addEmails);
+        allEmails.addAll(removeEmails);
+
+        Map<Long, String> emailById = new HashMap<>();
+        Map<String, Long> idByEmail = new HashMap<>();
+        if (!allIds.isEmpty() || !allEmails.isEmpty()) {
+            for (UserRepository.UserIdAndEmail user : userRepository.findIdsAndEmails(
+                    orPlaceholder(allIds, -1L), orPlaceholder(allEmails, ""))) {
+                emailById.put(user.getId(), user.getEmail());
+                idByEmail.put(user.getEmail().toLowerCase(), user.getId());
+            }
+        }
+
+        List<Outcome> results = new ArrayList<>(requested);
+        Map<Long, Outcome> toAdd = resolve(addIds, addEmails, emailById, idByEmail, results);
+        Map<Long, Outcome> toRemove = resolve(removeIds, removeEmails, emailById, idByEmail, results);
+
+        for (Long userId : toAdd.keySet()) {
+            if (toRemove.containsKey(userId)) {
+                throw new IllegalArgumentException("User " + userId + " cannot be both added and removed");
+            }
+        }
+
+        // Diff against existing memberships in one query
+        Set<Long> touched = new HashSet<>(toAdd.keySet());
+        touched.addAll(toRemove.keySet());
+        Set<Long> existing = touched.isEmpty()
+                ? Set.of()
+                : new HashSet<>(rsoMembershipRepository.findMemberIdsIn(rsoId, touched));
+
+        List<Long> inserts = new ArrayList<>();
+        for (Map.Entry<Long, Outcome> entry : toAdd.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                entry.getValue().setStatus(Status.ALREADY_MEMBER);
+            } else {
+                entry.getValue().setStatus(Status.ADDED);
+                inserts.add(entry.getKey());
+            }
+        }
+
+        List<Long> deletes = new ArrayList<>();
+        for (Map.Entry<Long, Outcome> entry : toRemove.entrySet()) {
+            if (rso.getAdmin().getId().equals(entry.getKey())) {
+                entry.getValue().setStatus(Status.CANNOT_REMOVE_ADMIN);
+            } else if (!existing.contains(entry.getKey())) {
+                entry.getValue().setStatus(Status.NOT_MEMBER);
+            } else {
+                entry.getValue().setStatus(Status.REMOVED);
+                deletes.add(entry.getKey());
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            rsoMembershipRepository.batchInsertMembers(rsoId, inserts);
+        }
+        if (!deletes.isEmpty()) {
+            rsoMembershipRepository.batchDeleteMembers(rsoId, deletes);
+        }
+        if (inserts.size() != deletes.size()) {
+            changeMemberCount(rso, inserts.size() - deletes.size());
+        }
+
+        return new RsoMembershipBulkResponse(rsoId, results);
+    }
+
+    // Apply a membership change to the RSO's count and status, and drop its college's cached directory.
+    // rso was loaded with its row locked, so its count and status are still what the UPDATE overwrites
+    // and the new status is exactly what the UPDATE writes.
+    private void changeMemberCount(Rso rso, int delta) {
+        rsoRepository.adjustMemberCount(rso.getId(), delta, activeMemberThreshold);
+        rsoDirectoryCache.evictCollege(rso.getCollege().getId());
+        invalidationPublisher.publish(Invalidation.rsoDirectory(rso.getCollege().getId()));
+
+        RsoStatus newStatus = rso.getMemberCount() + delta >= activeMemberThreshold
+                ? RsoStatus.ACTIVE : RsoStatus.INACTIVE;
+        collegeAnalyticsService.recordRsoStatusChange(rso.getCollege().getId(), rso.getStatus(), newStatus);
+    }
+
+    // Escape LIKE wildcards in user input ('!' is the escape character in the query)
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    // Turn requested IDs and emails into one outcome per distinct user, in request order.
+    // Unknown users are reported straight away, known ones are returned keyed by user ID.
+    private Map<Long, Outcome> resolve(List<Long> ids, List<String> emails, Map<Long, String> emailById,
+                                       Map<String, Long> idByEmail, List<Outcome> results) {
+        Map<Long, Outcome> resolved = new LinkedHashMap<>();
+        for (Long id : ids) {
+            String email = emailById.get(id);
+            if (email == null) {
+                results.add(new Outcome(id, null, Status.USER_NOT_FOUND));
+            } else if (!resolved.containsKey(id)) {
+                Outcome outcome = new Outcome(id, email, null);
+                resolved.put(id, outcome);
+                results.add(outcome);
+            }
+        }
+        for (String email : emails) {
+            Long id = idByEmail.get(email);
+            if (id == null) {
+                results.add(new Outcome(null, email, Status.USER_NOT_FOUND));
+            } else if (!resolved.containsKey(id)) {
+                Outcome outcome = new Outcome(id, emailById.get(id), null);
+                resolved.put(id, outcome);
+                results.add(outcome);
+            }
+        }
+        return resolved;
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> values) {
+        return values == null ? List.of() : values;
+    }
+
+    private static List<String> normalizeEmails(List<String> emails) {
+        return nullToEmpty(emails).stream()
+                .filter(email -> email != null && !email.isBlank())
+                .map(email -> email.trim().toLowerCase())
+                .toList();
+    }
+
+    // An IN clause needs at least one value, use one that never matches
+    private static <T> Collection<T> orPlaceholder(Collection<T> values, T placeholder) {
+        return values.isEmpty() ? List.of(placeholder) : values;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.model.RevokedToken;
+import edu.ucf.college_event_website.repository.RevokedTokenRepository;
+import edu.ucf.college_event_website.util.BloomFilter;
+import edu.ucf.college_event_website.util.RevocationBroadcast;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deny list of revoked token IDs (jti).
+ * A Bloom filter answers the common "not revoked" case with one probe; only a filter hit
+ * (a revoked token or a rare false positive) consults the exact in-memory set.
+ * Revocations are persisted so the list survives restarts, and broadcast to the other nodes.
+ */
+@Service
+public class TokenRevocationService {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private RevocationBroadcast revocationBroadcast;
+
+    // Revocations the filter is sized for before its false-positive rate degrades
+    @Value("${app.jwt.revocation.expected:100000}")
+    private int expectedRevocations;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Exact set: jti -> expiry (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    @PostConstruct
+    public void init() {
+        filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+
+        // Revocations made on other nodes
+        revocationBroadcast.subscribe(this::addLocally);
+    }
+
+    // Rebuild from persistent storage once the application has started, before readiness reports
+    // accepting traffic. The CDS training run of the fast-startup build exits on refresh and never gets here.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now())) {
+            addLocally(token.getJti(), toMillis(token.getExpiresAt()));
+        }
+    }
+
+    // Check if a token ID has been revoked
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // Revoke a token ID until its expiry
+    @Transactional
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, toLocalDateTime(expiresAtMillis)));
+        addLocally(jti, expiresAtMillis);
+        revocationBroadcast.publish(jti, expiresAtMillis);
+    }
+
+    // Revoke a token ID that may only be used once, false if it was already revoked.
+    // Two concurrent uses race on the primary key and exactly one of them wins.
+    public boolean revokeOnce(String jti, long expiresAtMillis) {
+        if (jti == null || isRevoked(jti)) {
+            return false;
+        }
+        try {
+            revokedTokenRepository.insert(jti, toLocalDateTime(expiresAtMillis));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        addLocally(jti, expiresAtMillis);
+        revocationBroadcast.publish(jti, expiresAtMillis);
+        return true;
+    }
+
+    // Hourly: drop expired revocations and rebuild the filter without them
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokenRepository.deleteByExpiresAtBefore(toLocalDateTime(now));
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        // Bloom filters cannot remove entries, so swap in a fresh one
+        BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+
+        // Catch entries added while rebuilding
+        revoked.keySet().forEach(rebuilt::add);
+    }
+
+    private void addLocally(String jti, Long expiresAtMillis) {
+        // Exact set first, so a filter hit always finds the entry
+        revoked.put(jti, expiresAtMillis);
+        filter.add(jti);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
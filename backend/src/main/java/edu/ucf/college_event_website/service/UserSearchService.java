@@ -0,0 +1,313 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.dto.UserSummaryResponse;
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Typeahead search over user emails and names, scoped to a college.
+ * Each college has an n-gram index: every trigram of every field, plus "^x" and "^xy"
+ * grams for the first one or two characters so short prefixes can be answered too.
+ * Posting lists are sorted arrays of user IDs, so a query walks the smallest list,
+ * probes the others with a binary search and stops as soon as the page is full.
+ * Prefix candidates are narrowed by the query's trigrams too, so a long query sharing a common
+ * prefix with many users but matching none of them does not walk them all.
+ * Prefix matches are returned before infix matches.
+ * Writers index a user once their transaction commits, and users changed on another node
+ * are re-read from the database with reindex.
+ */
+@Service
+public class UserSearchService {
+
+    // Scope of users without a college
+    private static final long NO_COLLEGE = 0L;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    private final Map<Long, IndexedUser> users = new ConcurrentHashMap<>();
+    private final Map<Long, CollegeIndex> indexes = new ConcurrentHashMap<>();
+
+    // Writers are serialized, readers work on immutable posting snapshots
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Build the index once the application has started
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        writeLock.lock();
+        try {
+            for (UserRepository.UserSearchRow row : userRepository.findAllSearchRows()) {
+                add(indexed(row));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Add a new user, or re-index one whose details or college changed, once the transaction commits
+    public void index(User user) {
+        IndexedUser indexed = new IndexedUser(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getRole(), user.getCollege() == null ? NO_COLLEGE : user.getCollege().getId());
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                add(indexed);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    // Re-read one user from the database, after another node changed them (dropped if deleted)
+    public void reindex(Long userId) {
+        UserRepository.UserSearchRow row = userRepository.findSearchRowById(userId).orElse(null);
+        writeLock.lock();
+        try {
+            if (row == null) {
+                // Postings still list the ID, queries skip it because it has no entry
+                users.remove(userId);
+            } else {
+                add(indexed(row));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Search users of the current user's college (super admins may pick a college)
+    @QueryBudget(3)
+    public List<UserSummaryResponse> searchUsers(String query, Long collegeId, int page, int size) {
+        User currentUser = securityUtils.getCurrentUser();
+
+        long scope = currentUser.getCollege() == null ? NO_COLLEGE : currentUser.getCollege().getId();
+        if (collegeId != null && collegeId != scope) {
+            if (!securityUtils.isSuperAdmin()) {
+                throw new AccessDeniedException("You can only search users of your own college");
+            }
+            scope = collegeId;
+        }
+
+        return search(query, scope, Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE));
+    }
+
+    private List<UserSummaryResponse> search(String query, long scope, int page, int size) {
+        String q = normalize(query);
+        CollegeIndex index = indexes.get(scope);
+        if (q.isEmpty() || index == null) {
+            return List.of();
+        }
+
+        List<UserSummaryResponse> results = new ArrayList<>(size);
+        int skip = page * size;
+
+        // Postings of every trigram of the query, a field containing it has all of them
+        List<Snapshot> trigramLists = new ArrayList<>();
+        for (String gram : trigrams(q)) {
+            Postings postings = index.grams.get(gram);
+            if (postings == null) {
+                return results;
+            }
+            trigramLists.add(postings.snapshot);
+        }
+
+        // 1. Fields starting with the query
+        Postings prefixPostings = index.grams.get("^" + q.substring(0, Math.min(2, q.length())));
+        if (prefixPostings != null) {
+            List<Snapshot> lists = new ArrayList<>(trigramLists);
+            lists.add(prefixPostings.snapshot);
+            lists.sort(Comparator.comparingInt(Snapshot::size));
+
+            Snapshot smallest = lists.get(0);
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.ids()[i];
+                if (!inAll(lists, id)) {
+                    continue;
+                }
+                IndexedUser user = users.get(id);
+                if (user == null || user.collegeKey() != scope || !user.startsWith(q)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else if (results.add(user.toResponse()) && results.size() == size) {
+                    return results;
+                }
+            }
+        }
+
+        // 2. Fields containing the query elsewhere (needs at least one trigram)
+        if (trigramLists.isEmpty()) {
+            return results;
+        }
+        trigramLists.sort(Comparator.comparingInt(Snapshot::size));
+
+        Snapshot smallest = trigramLists.get(0);
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.ids()[i];
+            if (!inAll(trigramLists, id)) {
+                continue;
+            }
+            IndexedUser user = users.get(id);
+            if (user == null || user.collegeKey() != scope || user.startsWith(q) || !user.contains(q)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else if (results.add(user.toResponse()) && results.size() == size) {
+                return results;
+            }
+        }
+        return results;
+    }
+
+    private static boolean inAll(List<Snapshot> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            Snapshot other = lists.get(i);
+            if (Arrays.binarySearch(other.ids(), 0, other.size(), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Called with writeLock held. Entries left in another college's postings
+    // are skipped at query time because the user's collegeKey no longer matches.
+    private void add(IndexedUser user) {
+        users.put(user.id(), user);
+        CollegeIndex index = indexes.computeIfAbsent(user.collegeKey(), key -> new CollegeIndex());
+
+        Set<String> grams = new HashSet<>();
+        for (String field : user.fields()) {
+            if (field.isEmpty()) {
+                continue;
+            }
+            grams.add("^" + field.charAt(0));
+            if (field.length() >= 2) {
+                grams.add("^" + field.substring(0, 2));
+            }
+            grams.addAll(trigrams(field));
+        }
+        for (String gram : grams) {
+            index.grams.computeIfAbsent(gram, g -> new Postings()).add(user.id());
+        }
+    }
+
+    private static IndexedUser indexed(UserRepository.UserSearchRow row) {
+        return new IndexedUser(row.getId(), row.getEmail(), row.getFirstName(), row.getLastName(),
+                row.getRole(), row.getCollegeId() == null ? NO_COLLEGE : row.getCollegeId());
+    }
+
+    private static List<String> trigrams(String value) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            grams.add(value.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedUser(long id, String email, String firstName, String lastName, Role role,
+                               long collegeKey, String[] fields) {
+
+        private IndexedUser(Long id, String email, String firstName, String lastName, Role role, long collegeKey) {
+            this(id, email, firstName, lastName, role, collegeKey, new String[]{
+                    normalize(email),
+                    normalize(firstName + " " + lastName),
+                    normalize(lastName)
+            });
+        }
+
+        private boolean startsWith(String q) {
+            for (String field : fields) {
+                if (field.startsWith(q)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean contains(String q) {
+            for (String field : fields) {
+                if (field.contains(q)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private UserSummaryResponse toResponse() {
+            return new UserSummaryResponse(id, email, firstName, lastName, role == null ? null : role.name());
+        }
+    }
+
+    private static final class CollegeIndex {
+        private final Map<String, Postings> grams = new ConcurrentHashMap<>();
+    }
+
+    private record Snapshot(long[] ids, int size) {
+    }
+
+    /**
+     * Sorted, duplicate-free list of user IDs. Appends of a higher ID (the usual case,
+     * IDs are auto-increment) write past the readers' size and publish a new snapshot;
+     * anything else copies the array so readers never see it change.
+     */
+    private static final class Postings {
+        private volatile Snapshot snapshot = new Snapshot(new long[4], 0);
+
+        private void add(long id) {
+            Snapshot current = snapshot;
+            long[] ids = current.ids();
+            int size = current.size();
+
+            if (size == 0 || ids[size - 1] < id) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size] = id;
+                snapshot = new Snapshot(ids, size + 1);
+                return;
+            }
+
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            long[] copy = new long[Math.max(ids.length, size + 1)];
+            System.arraycopy(ids, 0, copy, 0, position);
+            copy[position] = id;
+            System.arraycopy(ids, position, copy, position + 1, size - position);
+            snapshot = new Snapshot(copy, size + 1);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package edu.ucf.college_event_website.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.dto.CollegeResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Every college as an immutable snapshot: the CollegeResponse list, a lookup by ID and
+ * the list already serialized to JSON. Readers take the current snapshot with one
+ * volatile read; writers build a new snapshot and swap it in (copy-on-write).
+ * Changes made inside a transaction are applied once it commits.
+ */
+@Component
+public class CollegeSnapshotCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Null until the first load
+    private volatile Snapshot snapshot;
+
+    // Writers are serialized so no update is lost between copy and swap
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public List<CollegeResponse> getAll() {
+        return snapshot.colleges();
+    }
+
+    public CollegeResponse get(Long id) {
+        return snapshot.byId().get(id);
+    }
+
+    // The college list as JSON, shared between requests, so never modify it
+    public byte[] getAllJson() {
+        return snapshot.json();
+    }
+
+    // Replace the whole snapshot
+    public void load(Collection<CollegeResponse> colleges) {
+        writeLock.lock();
+        try {
+            Map<Long, CollegeResponse> byId = new TreeMap<>();
+            for (CollegeResponse college : colleges) {
+                byId.put(college.getId(), college);
+            }
+            snapshot = build(byId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Add or replace one college
+    public void put(CollegeResponse college) {
+        afterCommit(() -> update(byId -> byId.put(college.getId(), college)));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> update(byId -> byId.remove(id)));
+    }
+
+    private void update(Consumer<Map<Long, CollegeResponse>> change) {
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                // Not loaded yet, the initial load will read the change from the database
+                return;
+            }
+            Map<Long, CollegeResponse> byId = new TreeMap<>(snapshot.byId());
+            change.accept(byId);
+            snapshot = build(byId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Snapshot build(Map<Long, CollegeResponse> byId) {
+        List<CollegeResponse> colleges = List.copyOf(byId.values());
+        try {
+            return new Snapshot(colleges, Map.copyOf(byId), objectMapper.writeValueAsBytes(colleges));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize colleges", e);
+        }
+    }
+
+    private record Snapshot(List<CollegeResponse> colleges, Map<Long, CollegeResponse> byId, byte[] json) {
+    }
+}
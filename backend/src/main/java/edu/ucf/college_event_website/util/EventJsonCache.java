@@ -0,0 +1,188 @@
+package edu.ucf.college_event_website.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.dto.EventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Each event's EventResponse already serialized to JSON (and optionally gzipped), so the event lists
+ * skip both the per-event queries behind the response and Jackson for every event that has not changed.
+ * Entries are versioned by a clock: a change to an event stamps it with the next tick once its
+ * transaction commits, and a read is stamped with the clock when it starts. An entry serves a read
+ * only if it was built by a read that started after the event's last change, so a read racing a
+ * commit can never leave stale JSON behind.
+ * At most app.event-json.max-entries events are kept: past that, the least recently read ones are
+ * dropped in one pass down to 90% of the limit, so the scan is paid once per tenth of the limit.
+ */
+@Component
+public class EventJsonCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WarmupTraffic warmupTraffic;
+
+    // Also keep a gzipped copy, for clients that accept it on single-event responses
+    @Value("${app.event-json.gzip:false}")
+    private boolean gzip;
+
+    // Most events whose JSON is kept (each entry holds the JSON and maybe its gzipped copy)
+    @Value("${app.event-json.max-entries:10000}")
+    private int maxEntries;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // Tick of each event's last change
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    // Tick of the last change that touched every event (a college renamed or deleted)
+    private volatile long allChangedAt;
+
+    private final Map<Long, Entry> fragments = new ConcurrentHashMap<>();
+
+    // One thread trims at a time; a reader that finds a trim running leaves it to that thread
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    private Counter hits;
+    private Counter misses;
+
+    // One event's JSON, built by a read that started at the given tick
+    public record Fragment(long builtAt, byte[] json, byte[] gzipped) {
+    }
+
+    // A cached fragment and when it was last read (System.nanoTime), which ranks it for trimming
+    private static final class Entry {
+        private final Fragment fragment;
+        private volatile long readAt;
+
+        private Entry(Fragment fragment) {
+            this.fragment = fragment;
+            this.readAt = System.nanoTime();
+        }
+    }
+
+    @PostConstruct
+    public void initMetrics() {
+        hits = Counter.builder("cache.event_json.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("cache.event_json.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    // Stamp for a read, take it before loading the events the read serves
+    public long startRead() {
+        return clock.get();
+    }
+
+    // The event's JSON, built from the response (which may run queries) only if no valid entry exists
+    public Fragment get(Long eventId, long readStartedAt, Supplier<EventResponse> response) {
+        Entry cached = fragments.get(eventId);
+        // The JIT warm-up fills the cache but does not count towards its hit rate
+        boolean counted = !warmupTraffic.isCurrentRequestWarmup();
+        if (cached != null && cached.fragment.builtAt() >= lastChange(eventId)) {
+            cached.readAt = System.nanoTime();
+            if (counted) {
+                hits.increment();
+            }
+            return cached.fragment;
+        }
+
+        if (counted) {
+            misses.increment();
+        }
+        Fragment fragment = build(readStartedAt, response.get());
+        fragments.merge(eventId, new Entry(fragment),
+                (existing, built) -> built.fragment.builtAt() >= existing.fragment.builtAt() ? built : existing);
+        if (fragments.size() > maxEntries) {
+            trim();
+        }
+        return fragment;
+    }
+
+    // Number of events whose JSON is kept, for tests
+    int size() {
+        return fragments.size();
+    }
+
+    // The event's response changed, rebuild it once the transaction commits
+    public void invalidate(Long eventId) {
+        afterCommit(() -> changedAt.put(eventId, clock.incrementAndGet()));
+    }
+
+    // The event is gone
+    public void remove(Long eventId) {
+        afterCommit(() -> {
+            changedAt.put(eventId, clock.incrementAndGet());
+            fragments.remove(eventId);
+        });
+    }
+
+    // Something shown in every event's response changed
+    public void invalidateAll() {
+        afterCommit(() -> {
+            allChangedAt = clock.incrementAndGet();
+            fragments.clear();
+        });
+    }
+
+    // Drop the least recently read entries down to 90% of maxEntries, in one pass
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = fragments.size() - (maxEntries - maxEntries / 10);
+            if (excess <= 0) {
+                return;
+            }
+            long[] readAt = fragments.values().stream().mapToLong(entry -> entry.readAt).sorted().toArray();
+            long cutoff = readAt[Math.min(excess, readAt.length) - 1];
+            fragments.values().removeIf(entry -> entry.readAt <= cutoff);
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private long lastChange(Long eventId) {
+        return Math.max(changedAt.getOrDefault(eventId, 0L), allChangedAt);
+    }
+
+    private Fragment build(long readStartedAt, EventResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new Fragment(readStartedAt, json, gzip ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event " + response.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
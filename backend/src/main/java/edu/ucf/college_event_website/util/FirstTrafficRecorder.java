@@ -0,0 +1,55 @@
+package edu.ucf.college_event_website.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latencies of the first requests after startup, kept until a fixed number has been recorded.
+ * Once full it records nothing more, and checking costs one volatile read.
+ */
+public class FirstTrafficRecorder {
+
+    private final long[] latencies;
+
+    // Next slot to hand out, may run past the end while the last slots are being written
+    private final AtomicInteger next = new AtomicInteger();
+
+    // Slots written, the thread that writes the last one sees it reach the capacity
+    private final AtomicInteger recorded = new AtomicInteger();
+
+    public FirstTrafficRecorder(int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    // Record one latency, returns true only for the call that fills the last slot
+    public boolean record(long nanos) {
+        if (next.get() >= latencies.length) {
+            return false;
+        }
+        int slot = next.getAndIncrement();
+        if (slot >= latencies.length) {
+            return false;
+        }
+        latencies[slot] = nanos;
+        return recorded.incrementAndGet() == latencies.length;
+    }
+
+    public boolean isFull() {
+        return recorded.get() == latencies.length;
+    }
+
+    public int capacity() {
+        return latencies.length;
+    }
+
+    // Nearest-rank percentile in milliseconds, 0 until full
+    public double percentileMs(double p) {
+        if (!isFull() || latencies.length == 0) {
+            return 0;
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,42 @@
+package edu.ucf.college_event_website.util;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus between application contexts in the same JVM (app.invalidation.transport=in-jvm, the default).
+ * Stands in for a real transport in single-node deployments and in tests that start several contexts.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "in-jvm", matchIfMissing = true)
+public class InJvmInvalidationBus implements InvalidationBus {
+
+    // Shared by every context in the JVM
+    private static final List<Consumer<Batch>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<Batch>> ownListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Batch batch) {
+        for (Consumer<Batch> listener : LISTENERS) {
+            listener.accept(batch);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Batch> listener) {
+        ownListeners.add(listener);
+        LISTENERS.add(listener);
+    }
+
+    // Stop delivering to this context when it shuts down
+    @PreDestroy
+    public void close() {
+        LISTENERS.removeAll(ownListeners);
+    }
+}
@@ -0,0 +1,41 @@
+package edu.ucf.college_event_website.util;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Revocation broadcast between application contexts in the same JVM.
+ * Stands in for a real transport (message broker, database notifications)
+ * in single-node deployments and in tests that start several contexts.
+ */
+@Component
+public class InJvmRevocationBroadcast implements RevocationBroadcast {
+
+    // Shared by every context in the JVM
+    private static final List<BiConsumer<String, Long>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final List<BiConsumer<String, Long>> ownListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String jti, long expiresAtMillis) {
+        for (BiConsumer<String, Long> listener : LISTENERS) {
+            listener.accept(jti, expiresAtMillis);
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Long> listener) {
+        ownListeners.add(listener);
+        LISTENERS.add(listener);
+    }
+
+    // Stop delivering to this context when it shuts down
+    @PreDestroy
+    public void close() {
+        LISTENERS.removeAll(ownListeners);
+    }
+}
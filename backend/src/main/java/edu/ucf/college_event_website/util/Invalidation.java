@@ -0,0 +1,60 @@
+package edu.ucf.college_event_website.util;
+
+/**
+ * One change another node's in-memory caches have to catch up with.
+ * Carries only what changed, never the new data: receivers drop or reload from the database.
+ * Equal invalidations are interchangeable, so a burst of them can be coalesced into one.
+ */
+public record Invalidation(Type type, Long id) {
+
+    public enum Type {
+        // An event's response changed (id = event)
+        EVENT,
+        // An event's ratings or comments changed, its response and the leaderboards (id = event)
+        EVENT_SCORES,
+        // An event was deleted (id = event)
+        EVENT_REMOVED,
+        // Something shown in every event's response changed (no id)
+        ALL_EVENTS,
+        // A college was created, changed or deleted (id = college)
+        COLLEGE,
+        // A college's RSOs or their member counts changed (id = college)
+        RSO_DIRECTORY,
+        // A user's role or college changed, tokens issued before are stale (id = user)
+        USER,
+        // A user signed up, nothing issued to them before is stale (id = user)
+        USER_ADDED
+    }
+
+    public static Invalidation event(Long eventId) {
+        return new Invalidation(Type.EVENT, eventId);
+    }
+
+    public static Invalidation eventScores(Long eventId) {
+        return new Invalidation(Type.EVENT_SCORES, eventId);
+    }
+
+    public static Invalidation eventRemoved(Long eventId) {
+        return new Invalidation(Type.EVENT_REMOVED, eventId);
+    }
+
+    public static Invalidation allEvents() {
+        return new Invalidation(Type.ALL_EVENTS, null);
+    }
+
+    public static Invalidation college(Long collegeId) {
+        return new Invalidation(Type.COLLEGE, collegeId);
+    }
+
+    public static Invalidation rsoDirectory(Long collegeId) {
+        return new Invalidation(Type.RSO_DIRECTORY, collegeId);
+    }
+
+    public static Invalidation user(Long userId) {
+        return new Invalidation(Type.USER, userId);
+    }
+
+    public static Invalidation userAdded(Long userId) {
+        return new Invalidation(Type.USER_ADDED, userId);
+    }
+}
@@ -0,0 +1,23 @@
+package edu.ucf.college_event_website.util;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations to every node, so a write on one node does not leave
+ * the others serving stale data. Implementations may deliver to the publishing node too,
+ * receivers skip their own batches by origin.
+ * Delivery is best effort: caches that must never be stale still need their own expiry.
+ */
+public interface InvalidationBus {
+
+    // Send a batch of invalidations from the given node
+    void publish(Batch batch);
+
+    // Receive batches published by any node
+    void subscribe(Consumer<Batch> listener);
+
+    // Invalidations one node published together
+    record Batch(String origin, List<Invalidation> invalidations) {
+    }
+}
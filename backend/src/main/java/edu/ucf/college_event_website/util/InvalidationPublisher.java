@@ -0,0 +1,130 @@
+package edu.ucf.college_event_website.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Sends this node's invalidations to the other nodes over the InvalidationBus.
+ * Invalidations are queued once their transaction commits (a rolled back write sends nothing)
+ * and flushed every app.invalidation.flush-interval-ms as one batch, so a burst of writes costs
+ * one message. Before sending, duplicates are dropped along with invalidations another one in
+ * the batch already covers.
+ * This node's own caches are updated by the services directly, the bus is only for the others.
+ */
+@Component
+public class InvalidationPublisher {
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Most invalidations sent in one batch, larger flushes are split
+    @Value("${app.invalidation.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    // Identifies this node's batches, so it can skip them when the bus delivers them back
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ReentrantLock pendingLock = new ReentrantLock();
+
+    // Guarded by pendingLock
+    private Set<Invalidation> pending = new LinkedHashSet<>();
+
+    private Counter sentCounter;
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        sentCounter = Counter.builder("cache.invalidation.sent")
+                .description("Invalidations sent to the other nodes")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("cache.invalidation.coalesced")
+                .description("Invalidations dropped because another one in the same batch covered them")
+                .register(meterRegistry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Send to the other nodes once the current transaction commits
+    public void publish(Invalidation invalidation) {
+        afterCommit(() -> {
+            pendingLock.lock();
+            try {
+                if (!pending.add(invalidation)) {
+                    coalescedCounter.increment();
+                }
+            } finally {
+                pendingLock.unlock();
+            }
+        });
+    }
+
+    // Send everything queued since the last flush
+    @Scheduled(fixedDelayString = "${app.invalidation.flush-interval-ms:50}")
+    @PreDestroy
+    public void flush() {
+        Set<Invalidation> queued;
+        pendingLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            queued = pending;
+            pending = new LinkedHashSet<>();
+        } finally {
+            pendingLock.unlock();
+        }
+
+        List<Invalidation> batch = coalesce(queued);
+        coalescedCounter.increment(queued.size() - batch.size());
+        for (int from = 0; from < batch.size(); from += maxBatchSize) {
+            List<Invalidation> part = batch.subList(from, Math.min(from + maxBatchSize, batch.size()));
+            invalidationBus.publish(new InvalidationBus.Batch(nodeId, List.copyOf(part)));
+        }
+        sentCounter.increment(batch.size());
+    }
+
+    // Drop invalidations that another one in the same batch already covers
+    static List<Invalidation> coalesce(Collection<Invalidation> invalidations) {
+        Set<Invalidation> unique = new LinkedHashSet<>(invalidations);
+        boolean allEvents = unique.contains(Invalidation.allEvents());
+        List<Invalidation> coalesced = new ArrayList<>(unique.size());
+        for (Invalidation invalidation : unique) {
+            Long id = invalidation.id();
+            boolean covered = switch (invalidation.type()) {
+                // Every other event invalidation also rebuilds the event's response
+                case EVENT -> allEvents
+                        || unique.contains(Invalidation.eventScores(id))
+                        || unique.contains(Invalidation.eventRemoved(id));
+                case EVENT_SCORES -> unique.contains(Invalidation.eventRemoved(id));
+                // USER also re-indexes the user
+                case USER_ADDED -> unique.contains(Invalidation.user(id));
+                default -> false;
+            };
+            if (!covered) {
+                coalesced.add(invalidation);
+            }
+        }
+        return coalesced;
+    }
+}
@@ -0,0 +1,21 @@
+package edu.ucf.college_event_website.util;
+
+import java.util.List;
+
+/**
+ * A JSON array response made of already-encoded elements.
+ * JsonFragmentsHttpMessageConverter writes the elements straight to the response between
+ * brackets and commas, without building or serializing any objects.
+ * The element arrays may be shared with a cache, so never modify them.
+ */
+public record JsonFragments(List<byte[]> elements) {
+
+    // Bytes of the whole array once written
+    public long contentLength() {
+        long length = 2 + Math.max(0, elements.size() - 1);
+        for (byte[] element : elements) {
+            length += element.length;
+        }
+        return length;
+    }
+}
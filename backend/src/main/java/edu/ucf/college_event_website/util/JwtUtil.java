@@ -1,19 +1,30 @@
 package edu.ucf.college_event_website.util;
 
+import edu.ucf.college_event_website.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 @Component
@@ -25,9 +36,37 @@ public class JwtUtil {
     @Value("${app.jwt.expiration}")
     private long expiration;
 
-    private Key getSigningKey() {
+    // Lifetime of refresh tokens (default 14 days)
+    @Value("${app.jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    // Maximum number of verified tokens kept in memory
+    @Value("${app.jwt.cache-size:10000}")
+    private int cacheSize;
+
+    // Built once, both are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Verified claims by SHA-256 of the token, so repeat requests with the same token skip signature
+    // verification. Only a byte-identical token can hit, and the cache holds 32-byte digests instead of
+    // the tokens themselves.
+    private final Map<ByteBuffer, CachedClaims> verifiedTokens = new ConcurrentHashMap<>();
+
+    // Held by the one thread trimming the cache, the others keep going without waiting
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
         byte[] keyBytes = java.util.Base64.getDecoder().decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    private Key getSigningKey() {
+        return signingKey;
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -43,12 +82,46 @@ public class JwtUtil {
         return createToken(claims, userDetails.getUsername());
     }
 
+    // Token carrying the claims needed to authenticate requests without a database lookup
+    public String generateToken(User user) {
+        return generateToken(user, expiration);
+    }
+
+    // Same token with its own lifetime, for tokens that are only needed for a short job
+    public String generateToken(User user, long lifetime) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("roles", List.of(user.getRole().name()));
+        claims.put("role", user.getRole().name());
+        claims.put("userId", user.getId());
+        if (user.getCollege() != null) {
+            claims.put("collegeId", user.getCollege().getId());
+        }
+        return createToken(claims, user.getEmail(), lifetime);
+    }
+
+    // Long-lived token that can only be exchanged for a new access token
+    public String generateRefreshToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("type", "refresh");
+        return createToken(claims, user.getEmail(), refreshExpiration);
+    }
+
+    // Check if the claims belong to a refresh token rather than an access token
+    public boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get("type", String.class));
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
+        return createToken(claims, subject, expiration);
+    }
+
+    private String createToken(Map<String, Object> claims, String subject, long lifetime) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
+        Date expiryDate = new Date(now.getTime() + lifetime);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -75,14 +148,65 @@ public class JwtUtil {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        ByteBuffer key = digest(token);
+        CachedClaims cached = verifiedTokens.get(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.claims();
+        }
+
+        // Verifies the signature and throws if the token has expired
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        cacheClaims(key, claims);
+        return claims;
+    }
+
+    private void cacheClaims(ByteBuffer key, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        if (verifiedTokens.size() >= cacheSize) {
+            evictEntries();
+        }
+        verifiedTokens.put(key, new CachedClaims(claims, claims.getExpiration().getTime()));
+    }
+
+    // Trim the cache to 90% of its size in one pass: expired tokens first, then the ones
+    // expiring soonest. Trimming in batches keeps a full cache from scanning on every miss.
+    private void evictEntries() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(cached -> cached.expiresAt() <= now);
+
+            int excess = verifiedTokens.size() - cacheSize * 9 / 10;
+            if (excess > 0) {
+                verifiedTokens.entrySet().stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                        .limit(excess)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(verifiedTokens::remove);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
     }
 
     private Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
-}
\ No newline at end of file
+
+    private record CachedClaims(Claims claims, long expiresAt) {
+    }
+}
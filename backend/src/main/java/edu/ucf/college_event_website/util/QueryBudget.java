@@ -0,0 +1,20 @@
+package edu.ucf.college_event_website.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements a controller endpoint (the whole request) or a service method may run.
+ * Going over logs a warning and counts sql.budget.exceeded; with
+ * app.query-budget.fail-on-exceed=true (the test suite) the offending statement fails instead.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
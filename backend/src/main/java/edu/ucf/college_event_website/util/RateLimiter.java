@@ -0,0 +1,126 @@
+package edu.ucf.college_event_website.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets keyed by an arbitrary string (client IP, user email, ...).
+ * Each bucket is a single AtomicLong holding the time at which it will be full again
+ * (the GCRA form of a token bucket), so checking a key is one CAS and never blocks.
+ * Full buckets carry no information, so when the map reaches its size limit they are dropped in one
+ * pass, aiming for 90% of the limit, which spreads the cost of the scan over many new keys.
+ * A bucket that is not full is never dropped, since that would hand its client a fresh burst:
+ * if every tracked client is still limited, new keys are refused until the first bucket refills.
+ */
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // Nanoseconds to earn one token
+    private final long nanosPerToken;
+
+    // Nanoseconds to go from empty to full
+    private final long burstNanos;
+
+    private final int maxKeys;
+
+    // Size a trim aims for, so the next one is not due for another tenth of maxKeys new keys
+    private final int lowWaterKeys;
+
+    // System.nanoTime outside of tests
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> fullAt = new ConcurrentHashMap<>();
+
+    // One thread trims at a time, the others wait for its result rather than scan again
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    // No bucket left by the last trim is full before this time, so trimming earlier would free nothing
+    private volatile long nextTrimAt;
+
+    public RateLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        this(capacity, refillPerMinute, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, int refillPerMinute, int maxKeys, LongSupplier nanoClock) {
+        this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+        this.burstNanos = nanosPerToken * Math.max(1, capacity);
+        this.maxKeys = maxKeys;
+        this.lowWaterKeys = maxKeys - Math.max(1, maxKeys / 10);
+        this.nanoClock = nanoClock;
+        this.nextTrimAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes one token for the key
+     * return 0 if allowed, otherwise the number of seconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = fullAt.get(key);
+        if (bucket == null) {
+            if (fullAt.size() >= maxKeys && !makeRoom(now)) {
+                // Every tracked client is still limited: refuse the new one rather than forget a limit
+                return toSeconds(nextTrimAt - now);
+            }
+            bucket = fullAt.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = bucket.get();
+            long base = Math.max(current, now);
+            long next = base + nanosPerToken;
+            if (next - now > burstNanos) {
+                // Bucket is empty, report when the next token arrives
+                return toSeconds(next - now - burstNanos);
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Number of keys tracked, for tests
+    int size() {
+        return fullAt.size();
+    }
+
+    // Drop every bucket that has refilled completely, in one pass. Returns whether there is room for a new key.
+    private boolean makeRoom(long now) {
+        trimLock.lock();
+        try {
+            if (fullAt.size() < maxKeys) {
+                // Another thread trimmed while this one waited
+                return true;
+            }
+            if (now - nextTrimAt < 0) {
+                return false;
+            }
+            long earliestRefill = Long.MAX_VALUE;
+            Iterator<AtomicLong> buckets = fullAt.values().iterator();
+            while (buckets.hasNext()) {
+                long untilFull = buckets.next().get() - now;
+                if (untilFull <= 0) {
+                    buckets.remove();
+                } else {
+                    earliestRefill = Math.min(earliestRefill, untilFull);
+                }
+            }
+            // Short of the low-water mark, skip the scans until a bucket that was kept can go
+            nextTrimAt = fullAt.size() > lowWaterKeys && earliestRefill != Long.MAX_VALUE ? now + earliestRefill : now;
+            return fullAt.size() < maxKeys;
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    // A wait as a Retry-After value, rounded up to whole seconds
+    private static long toSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,16 @@
+package edu.ucf.college_event_website.util;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Carries token revocations to every node, so a token revoked on one node is
+ * rejected by all of them. Implementations may deliver to the publishing node too.
+ */
+public interface RevocationBroadcast {
+
+    // Announce that a token ID is revoked until the given time (epoch ms)
+    void publish(String jti, long expiresAtMillis);
+
+    // Receive revocations published by any node
+    void subscribe(BiConsumer<String, Long> listener);
+}
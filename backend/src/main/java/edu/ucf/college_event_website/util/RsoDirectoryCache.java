@@ -0,0 +1,86 @@
+package edu.ucf.college_event_website.util;
+
+import edu.ucf.college_event_website.dto.RsoDirectoryResponse;
+import edu.ucf.college_event_website.model.RsoStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static edu.ucf.college_event_website.util.TransactionCallbacks.afterCommit;
+
+/**
+ * First pages of each college's RSO directory (no name filter, no cursor).
+ * Each college has a version that every RSO write bumps, once right away and once after commit.
+ * A page is only kept if the version did not move while it was being read,
+ * so a reader that raced a write can never leave a stale page behind.
+ * Once the cache is full the least recently read page makes room for the new one.
+ */
+@Component
+public class RsoDirectoryCache {
+
+    @Value("${app.rso.directory-cache-size:1000}")
+    private int maxEntries;
+
+    // Access-ordered, so even a read changes it; guarded by pagesLock
+    private final LinkedHashMap<Key, RsoDirectoryResponse> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, RsoDirectoryResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    // A lock rather than a monitor, so a virtual thread waiting for it does not pin its carrier
+    private final ReentrantLock pagesLock = new ReentrantLock();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    // Read before querying, then hand to put()
+    public long version(Long collegeId) {
+        return versions.computeIfAbsent(collegeId, id -> new AtomicLong()).get();
+    }
+
+    public RsoDirectoryResponse get(Long collegeId, RsoStatus status, int size) {
+        pagesLock.lock();
+        try {
+            return pages.get(new Key(collegeId, status, size));
+        } finally {
+            pagesLock.unlock();
+        }
+    }
+
+    public void put(Long collegeId, RsoStatus status, int size, long version, RsoDirectoryResponse page) {
+        // evictNow bumps the version before taking the lock, so a write that lands after this check
+        // still removes the page
+        pagesLock.lock();
+        try {
+            if (version(collegeId) == version) {
+                pages.put(new Key(collegeId, status, size), page);
+            }
+        } finally {
+            pagesLock.unlock();
+        }
+    }
+
+    // Drop a college's pages now and again once the current transaction commits,
+    // in case a reader cached the old rows in between
+    public void evictCollege(Long collegeId) {
+        evictNow(collegeId);
+        afterCommit(() -> evictNow(collegeId));
+    }
+
+    private void evictNow(Long collegeId) {
+        versions.computeIfAbsent(collegeId, id -> new AtomicLong()).incrementAndGet();
+        pagesLock.lock();
+        try {
+            pages.keySet().removeIf(key -> key.collegeId().equals(collegeId));
+        } finally {
+            pagesLock.unlock();
+        }
+    }
+
+    private record Key(Long collegeId, RsoStatus status, int size) {
+    }
+}
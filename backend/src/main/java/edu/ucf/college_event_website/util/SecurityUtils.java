@@ -4,10 +4,15 @@ import edu.ucf.college_event_website.model.User;
 import edu.ucf.college_event_website.repository.UserRepository;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Component
 public class SecurityUtils {
 
+    // Request attribute holding the user resolved for the current request
+    private static final String CURRENT_USER_ATTRIBUTE = SecurityUtils.class.getName() + ".currentUser";
+
     private final UserRepository userRepository;
 
     public SecurityUtils(UserRepository userRepository) {
@@ -16,12 +21,38 @@ public class SecurityUtils {
 
     /**
      * Gets the currently authenticated user from the security context
+     * The user (with college) is loaded once per HTTP request and reused by later calls
      * return The authenticated user entity
      */
     public User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object cached = request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User user && email.equals(user.getEmail())) {
+                return user;
+            }
+        }
+
+        User user = userRepository.findByEmailWithCollege(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    /**
+     * Forgets the user cached for the current request
+     * Call after the request changes the current user so the next lookup sees the change
+     */
+    public void evictCurrentUser() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
     }
 
     /**
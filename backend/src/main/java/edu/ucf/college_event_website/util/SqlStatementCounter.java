@@ -0,0 +1,70 @@
+package edu.ucf.college_event_website.util;
+
+import edu.ucf.college_event_website.exception.QueryBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered as Hibernate's statement inspector; a request thread calls start() and stop()
+ * around its work. Costs one thread-local read per statement.
+ * Statements sent through JdbcTemplate (the RSO membership batches) bypass Hibernate and are not counted.
+ * A hard limit can be set for the rest of the count, the statement that goes over it then fails,
+ * which is how the test suite turns a query budget overrun into an error at the offending query.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Count count = COUNT.get();
+        if (count != null) {
+            count.statements++;
+            if (count.limit >= 0 && count.statements > count.limit) {
+                // Fail once, statements run while handling the failure are only counted
+                int limit = count.limit;
+                count.limit = -1;
+                throw new QueryBudgetExceededException(count.owner, limit, count.statements);
+            }
+        }
+        return sql;
+    }
+
+    // Start counting on this thread
+    public static void start() {
+        COUNT.set(new Count());
+    }
+
+    // Whether this thread is counting
+    public static boolean isCounting() {
+        return COUNT.get() != null;
+    }
+
+    // Statements so far on this thread (0 when not counting)
+    public static int current() {
+        Count count = COUNT.get();
+        return count == null ? 0 : count.statements;
+    }
+
+    // Fail the statement that takes the count over the limit (no-op when not counting)
+    public static void failAbove(int limit, String owner) {
+        Count count = COUNT.get();
+        if (count != null) {
+            count.limit = limit;
+            count.owner = owner;
+        }
+    }
+
+    // Stop counting on this thread and return the total
+    public static int stop() {
+        int total = current();
+        COUNT.remove();
+        return total;
+    }
+
+    private static final class Count {
+        private int statements;
+        private int limit = -1;
+        private String owner;
+    }
+}
@@ -0,0 +1,25 @@
+package edu.ucf.college_event_website.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Helpers for work that must only happen once the current transaction has committed
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // Run the action after the current transaction commits, or right away if there is none
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package edu.ucf.college_event_website.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus between JVMs over UDP (app.invalidation.transport=udp).
+ * Each node listens on its own port and sends every batch to the configured peers, by default
+ * on the loopback interface, so several nodes on one machine (or a test harness) share invalidations
+ * without a broker. Datagrams can be lost: this transport suits development and tests, production
+ * needs a broker behind the same interface.
+ * A datagram is plain text: its HMAC-SHA256 under the shared app.invalidation.udp.secret on the first line,
+ * then the origin, then one "TYPE id" line per invalidation. Datagrams without a valid HMAC are dropped.
+ * They are not encrypted and a replayed one is accepted, which only costs a reload.
+ * Binding to or sending to anything but the loopback interface needs app.invalidation.udp.allow-remote=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "udp")
+public class UdpInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpInvalidationBus.class);
+
+    // Keeps every datagram well under the 64 KB UDP limit
+    private static final int MAX_INVALIDATIONS_PER_DATAGRAM = 500;
+
+    private static final int MAX_DATAGRAM_BYTES = 65_507;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    // Shorter secrets are refused
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Value("${app.invalidation.udp.bind-address:127.0.0.1}")
+    private String bindAddress;
+
+    @Value("${app.invalidation.udp.port:47800}")
+    private int port;
+
+    // Other nodes as host:port (including this node's own address is harmless)
+    @Value("${app.invalidation.udp.peers:}")
+    private List<String> peers;
+
+    // Shared by every node, signs each datagram
+    @Value("${app.invalidation.udp.secret:}")
+    private String secret;
+
+    // Opt-in for a bind address or peers off the loopback interface
+    @Value("${app.invalidation.udp.allow-remote:false}")
+    private boolean allowRemote;
+
+    private final List<Consumer<Batch>> listeners = new CopyOnWriteArrayList<>();
+
+    private List<InetSocketAddress> peerAddresses;
+    private SecretKeySpec key;
+    private DatagramSocket socket;
+
+    @PostConstruct
+    public void start() throws SocketException {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.invalidation.udp.secret must be set to at least "
+                    + MIN_SECRET_BYTES + " bytes shared by every node");
+        }
+        key = new SecretKeySpec(secretBytes, HMAC_ALGORITHM);
+
+        InetSocketAddress bind = new InetSocketAddress(bindAddress, port);
+        peerAddresses = peers.stream().map(UdpInvalidationBus::parseAddress).toList();
+        if (!allowRemote && (!isLoopback(bind) || !peerAddresses.stream().allMatch(UdpInvalidationBus::isLoopback))) {
+            throw new IllegalStateException("The UDP invalidation bus only uses the loopback interface unless "
+                    + "app.invalidation.udp.allow-remote=true");
+        }
+        socket = new DatagramSocket(bind);
+        Thread.ofPlatform().name("invalidation-udp").daemon().start(this::receive);
+        log.info("invalidation_bus_started transport=udp address={}:{} peers={}", bindAddress, port, peers.size());
+    }
+
+    @Override
+    public void publish(Batch batch) {
+        List<Invalidation> invalidations = batch.invalidations();
+        for (int from = 0; from < invalidations.size(); from += MAX_INVALIDATIONS_PER_DATAGRAM) {
+            int to = Math.min(from + MAX_INVALIDATIONS_PER_DATAGRAM, invalidations.size());
+            byte[] datagram = encode(batch.origin(), invalidations.subList(from, to));
+            for (InetSocketAddress peer : peerAddresses) {
+                try {
+                    socket.send(new DatagramPacket(datagram, datagram.length, peer));
+                } catch (IOException e) {
+                    log.warn("invalidation_send_failed peer={} error=\"{}\"", peer, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Batch> listener) {
+        listeners.add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        socket.close();
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM_BYTES];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                // Closed on shutdown
+                continue;
+            }
+            try {
+                String text = new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8);
+                int newline = text.indexOf('\n');
+                if (newline < 0 || !verify(text.substring(0, newline), text.substring(newline + 1))) {
+                    log.warn("invalidation_rejected from={} reason=\"bad signature\"", packet.getSocketAddress());
+                    continue;
+                }
+                Batch batch = decode(text.substring(newline + 1));
+                for (Consumer<Batch> listener : listeners) {
+                    listener.accept(batch);
+                }
+            } catch (RuntimeException e) {
+                log.warn("invalidation_receive_failed from={} error=\"{}\"", packet.getSocketAddress(), e.getMessage());
+            }
+        }
+    }
+
+    private byte[] encode(String origin, List<Invalidation> invalidations) {
+        StringBuilder text = new StringBuilder(origin).append('\n');
+        for (Invalidation invalidation : invalidations) {
+            text.append(invalidation.type().name()).append(' ')
+                    .append(invalidation.id() == null ? "-" : invalidation.id().toString()).append('\n');
+        }
+        String body = text.toString();
+        return (HexFormat.of().formatHex(sign(body)) + '\n' + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean verify(String signature, String body) {
+        try {
+            return MessageDigest.isEqual(HexFormat.of().parseHex(signature), sign(body));
+        } catch (IllegalArgumentException e) {
+            // Not hex
+            return false;
+        }
+    }
+
+    // Mac instances are not thread-safe, and publish and receive run on different threads
+    private byte[] sign(String body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(body.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign invalidations", e);
+        }
+    }
+
+    private static boolean isLoopback(InetSocketAddress address) {
+        return address.getAddress() != null && address.getAddress().isLoopbackAddress();
+    }
+
+    private static Batch decode(String text) {
+        String[] lines = text.split("\n");
+        List<Invalidation> invalidations = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(" ", 2);
+            Long id = "-".equals(fields[1]) ? null : Long.valueOf(fields[1]);
+            invalidations.add(new Invalidation(Invalidation.Type.valueOf(fields[0]), id));
+        }
+        return new Batch(lines[0], invalidations);
+    }
+
+    private static InetSocketAddress parseAddress(String hostPort) {
+        int colon = hostPort.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Invalidation peer must be host:port, got " + hostPort);
+        }
+        try {
+            return new InetSocketAddress(InetAddress.getByName(hostPort.substring(0, colon).trim()),
+                    Integer.parseInt(hostPort.substring(colon + 1).trim()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unknown invalidation peer " + hostPort, e);
+        }
+    }
+}
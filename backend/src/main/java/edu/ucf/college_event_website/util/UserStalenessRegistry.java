@@ -0,0 +1,44 @@
+package edu.ucf.college_event_website.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks users whose account changed after a token was issued, so the claims
+ * in older tokens (role, college) are no longer trusted.
+ * Entries only live as long as a token does, after that every token issued
+ * before the change has expired on its own.
+ */
+@Component
+public class UserStalenessRegistry {
+
+    @Value("${app.jwt.expiration}")
+    private long expiration;
+
+    // User ID -> time (ms) the user last changed
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    // Invalidate every token issued to this user so far
+    public void markChanged(Long userId) {
+        changedAt.put(userId, System.currentTimeMillis());
+    }
+
+    // Check if a token issued at the given time predates a change to the user
+    public boolean isStale(Long userId, Date issuedAt) {
+        Long changed = changedAt.get(userId);
+        if (changed == null) {
+            return false;
+        }
+        if (changed + expiration < System.currentTimeMillis()) {
+            // Every token from before the change has expired
+            changedAt.remove(userId, changed);
+            return false;
+        }
+        // Token timestamps have second precision
+        return issuedAt == null || issuedAt.getTime() < changed - changed % 1000;
+    }
+}
@@ -0,0 +1,52 @@
+package edu.ucf.college_event_website.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+/**
+ * Tells the JIT warm-up's own requests apart from real traffic, so they stay out of the request,
+ * service, SQL, token and cache metrics. The warm-up sends a random key, new for each run, in a header;
+ * only a request carrying the current key counts, and no key is valid once the warm-up has finished.
+ * Outside a warm-up every check is a single volatile read.
+ */
+@Component
+public class WarmupTraffic {
+
+    public static final String HEADER = "X-Jit-Warmup";
+
+    private volatile byte[] key;
+
+    // Start a warm-up run, returns the key its requests must send
+    public String open() {
+        String value = UUID.randomUUID().toString();
+        key = value.getBytes(StandardCharsets.UTF_8);
+        return value;
+    }
+
+    public void close() {
+        key = null;
+    }
+
+    // Whether the request was sent by the running warm-up
+    public boolean isWarmup(HttpServletRequest request) {
+        byte[] current = key;
+        if (current == null) {
+            return false;
+        }
+        String header = request.getHeader(HEADER);
+        return header != null && MessageDigest.isEqual(current, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Whether the current thread is serving a request sent by the running warm-up
+    public boolean isCurrentRequestWarmup() {
+        return key != null
+                && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && isWarmup(attributes.getRequest());
+    }
+}
@@ -0,0 +1,45 @@
+-- -----------------------------------------------------
+-- Upgrade of a database created from an earlier schema.sql
+-- -----------------------------------------------------
+-- schema.sql only runs CREATE TABLE IF NOT EXISTS, so it leaves tables that already exist untouched.
+-- Run this once, by hand, against such a database before starting the new version:
+--   mysql college_event_website < upgrade-existing-schema.sql
+-- New tables (revoked_tokens) are still created by schema.sql on startup.
+
+USE `college_event_website` ;
+
+-- -----------------------------------------------------
+-- Table `college_event_website`.`rso_memberships`
+-- Join time of each membership, for the member listing in join order.
+-- Existing memberships get the time of the upgrade.
+-- -----------------------------------------------------
+ALTER TABLE `college_event_website`.`rso_memberships`
+  ADD COLUMN `joined_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP AFTER `rso_id`,
+  DROP INDEX `fk_rso_memberships_rso`,
+  ADD INDEX `fk_rso_memberships_rso` (`rso_id` ASC, `joined_at` ASC, `user_id` ASC) VISIBLE;
+
+-- -----------------------------------------------------
+-- Table `college_event_website`.`rsos`
+-- Member count kept by every membership change, and the index behind the college directory.
+-- -----------------------------------------------------
+ALTER TABLE `college_event_website`.`rsos`
+  ADD COLUMN `member_count` INT NOT NULL DEFAULT 0 AFTER `status`,
+  DROP INDEX `idx_rsos_college_id`,
+  ADD INDEX `idx_rsos_college_name` (`college_id` ASC, `name` ASC) VISIBLE;
+
+-- Count the existing members, then derive the status from the count the same way
+-- RsoRepository.adjustMemberCount does. 5 is the default app.rso.active-member-threshold:
+-- change it here if the application runs with another value.
+UPDATE `college_event_website`.`rsos` r
+  SET r.`member_count` = (SELECT COUNT(*) FROM `college_event_website`.`rso_memberships` m
+                          WHERE m.`rso_id` = r.`rso_id`);
+
+UPDATE `college_event_website`.`rsos`
+  SET `status` = CASE WHEN `member_count` >= 5 THEN 'ACTIVE' ELSE 'INACTIVE' END;
+
+-- -----------------------------------------------------
+-- Table `college_event_website`.`public_events`
+-- Index behind the approval queue.
+-- -----------------------------------------------------
+ALTER TABLE `college_event_website`.`public_events`
+  ADD INDEX `idx_public_events_approved` (`approved` ASC, `event_id` ASC) VISIBLE;
@@ -1,4 +1,5 @@
 -- MySQL Workbench Forward Engineering
+-- Tables that already exist are left as they are: upgrade an older database with db/migration/upgrade-existing-schema.sql
 
 SET @OLD_UNIQUE_CHECKS=@@UNIQUE_CHECKS, UNIQUE_CHECKS=0;
 SET @OLD_FOREIGN_KEY_CHECKS=@@FOREIGN_KEY_CHECKS, FOREIGN_KEY_CHECKS=0;
@@ -161,6 +162,7 @@ CREATE TABLE IF NOT EXISTS `college_event_website`.`public_events` (
   `approved` TINYINT(1) NULL DEFAULT '0',
   PRIMARY KEY (`event_id`),
   INDEX `idx_public_events_super_admin` (`super_admin_id` ASC) VISIBLE,
+  INDEX `idx_public_events_approved` (`approved` ASC, `event_id` ASC) VISIBLE,
   CONSTRAINT `fk_public_events_event`
     FOREIGN KEY (`event_id`)
     REFERENCES `college_event_website`.`events` (`event_id`),
@@ -202,10 +204,11 @@ CREATE TABLE IF NOT EXISTS `college_event_website`.`rsos` (
   `admin_id` BIGINT NOT NULL,
   `college_id` BIGINT NOT NULL,
   `status` ENUM('ACTIVE', 'INACTIVE') NULL DEFAULT 'ACTIVE',
+  `member_count` INT NOT NULL DEFAULT 0,
   PRIMARY KEY (`rso_id`),
   UNIQUE INDEX `idx_rsos_name_college` (`name` ASC, `college_id` ASC) VISIBLE,
   INDEX `idx_rsos_admin_id` (`admin_id` ASC) VISIBLE,
-  INDEX `idx_rsos_college_id` (`college_id` ASC) VISIBLE,
+  INDEX `idx_rsos_college_name` (`college_id` ASC, `name` ASC) VISIBLE,
   CONSTRAINT `fk_rsos_admin`
     FOREIGN KEY (`admin_id`)
     REFERENCES `college_event_website`.`users` (`user_id`),
@@ -242,8 +245,9 @@ COLLATE = utf8mb4_0900_ai_ci;
 CREATE TABLE IF NOT EXISTS `college_event_website`.`rso_memberships` (
   `user_id` BIGINT NOT NULL,
   `rso_id` BIGINT NOT NULL,
+  `joined_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`user_id`, `rso_id`),
-  INDEX `fk_rso_memberships_rso` (`rso_id` ASC) VISIBLE,
+  INDEX `fk_rso_memberships_rso` (`rso_id` ASC, `joined_at` ASC, `user_id` ASC) VISIBLE,
   CONSTRAINT `fk_rso_memberships_rso`
     FOREIGN KEY (`rso_id`)
     REFERENCES `college_event_website`.`rsos` (`rso_id`),
@@ -255,6 +259,19 @@ DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
 
 
+-- -----------------------------------------------------
+-- Table `college_event_website`.`revoked_tokens`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `college_event_website`.`revoked_tokens` (
+  `jti` VARCHAR(64) NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  PRIMARY KEY (`jti`),
+  INDEX `idx_revoked_tokens_expires_at` (`expires_at` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
 SET SQL_MODE=@OLD_SQL_MODE;
 SET FOREIGN_KEY_CHECKS=@OLD_FOREIGN_KEY_CHECKS;
 SET UNIQUE_CHECKS=@OLD_UNIQUE_CHECKS;
@@ -0,0 +1,143 @@
+package edu.ucf.college_event_website;
+
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.RevokedTokenRepository;
+import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.service.AuthService;
+import edu.ucf.college_event_website.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Token lifecycle through the auth endpoints: logged out and refresh tokens must not verify,
+ * and a refresh token can be exchanged only once, even by two concurrent requests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthTokenIntegrationTests {
+
+    private static final String EMAIL = "tokens@ucf.edu";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        user = userRepository.findByEmail(EMAIL).orElseGet(() -> {
+            User created = new User();
+            created.setEmail(EMAIL);
+            created.setFirstName("Taylor");
+            created.setLastName("Knight");
+            created.setPassword(passwordEncoder.encode("password"));
+            created.setRole(Role.STUDENT);
+            return userRepository.save(created);
+        });
+    }
+
+    @Test
+    void verifyRejectsLoggedOutToken() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        mockMvc.perform(post("/api/auth/verify").contentType(MediaType.APPLICATION_JSON).content(tokenBody(token)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/auth/verify").contentType(MediaType.APPLICATION_JSON).content(tokenBody(token)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void verifyRejectsRefreshToken() throws Exception {
+        mockMvc.perform(post("/api/auth/verify").contentType(MediaType.APPLICATION_JSON)
+                        .content(tokenBody(jwtUtil.generateRefreshToken(user))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshTokenWorksOnce() throws Exception {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+        mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(tokenBody(refreshToken)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(tokenBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void concurrentRefreshesWithOneTokenOnlyOneWins() throws Exception {
+        int attempts = 8;
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+        String jti = jwtUtil.extractAllClaims(refreshToken).getId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.refreshToken(refreshToken);
+                        return true;
+                    } catch (BadCredentialsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            assertEquals(1, succeeded);
+            assertTrue(revokedTokenRepository.existsById(jti));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String tokenBody(String token) {
+        return "{\"token\":\"" + token + "\"}";
+    }
+}
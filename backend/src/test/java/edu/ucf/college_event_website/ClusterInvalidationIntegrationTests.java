@@ -0,0 +1,258 @@
+package edu.ucf.college_event_website;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.dto.CollegeRequest;
+import edu.ucf.college_event_website.dto.CollegeResponse;
+import edu.ucf.college_event_website.dto.SignupRequest;
+import edu.ucf.college_event_website.model.College;
+import edu.ucf.college_event_website.model.Event;
+import edu.ucf.college_event_website.model.EventType;
+import edu.ucf.college_event_website.model.Location;
+import edu.ucf.college_event_website.model.PublicEvent;
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.CollegeRepository;
+import edu.ucf.college_event_website.repository.EventRepository;
+import edu.ucf.college_event_website.repository.LocationRepository;
+import edu.ucf.college_event_website.repository.PublicEventRepository;
+import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.service.AuthService;
+import edu.ucf.college_event_website.service.CollegeService;
+import edu.ucf.college_event_website.service.PublicEventService;
+import edu.ucf.college_event_website.service.UserSearchService;
+import edu.ucf.college_event_website.util.CollegeSnapshotCache;
+import edu.ucf.college_event_website.util.Invalidation;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.net.DatagramSocket;
+import java.net.SocketException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Two application contexts on one H2 database, sharing invalidations over the UDP transport on the
+ * loopback interface as two nodes would. A write through a service on node A must reach node B's caches.
+ * Automatic flushing is pushed out of the way so each test flushes node A itself.
+ * Settings are passed as command-line arguments, which win over the test application.properties.
+ */
+class ClusterInvalidationIntegrationTests {
+
+    private static final String DATABASE_URL =
+            "jdbc:h2:mem:cluster_invalidation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String BUS_SECRET = "cluster-invalidation-test-secret-0123456789";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static User superAdmin;
+
+    @BeforeAll
+    static void startNodes() throws SocketException {
+        int portA = freeUdpPort();
+        int portB = freeUdpPort();
+        String peers = "127.0.0.1:" + portA + ",127.0.0.1:" + portB;
+        // Node A creates the schema, node B uses it
+        nodeA = startNode(portA, peers, "create-drop");
+        nodeB = startNode(portB, peers, "none");
+
+        User user = new User();
+        user.setEmail("super@cluster.test");
+        user.setFirstName("Sam");
+        user.setLastName("Knight");
+        user.setPassword(nodeA.getBean(PasswordEncoder.class).encode("password"));
+        user.setRole(Role.SUPER_ADMIN);
+        superAdmin = nodeA.getBean(UserRepository.class).save(user);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void collegeWritesOnOneNodeReachTheOther() throws Exception {
+        signInAsSuperAdmin();
+
+        CollegeRequest request = new CollegeRequest();
+        request.setName("UCF");
+        request.setLocation("Orlando, FL");
+        request.setDescription("University of Central Florida");
+        CollegeResponse created = nodeA.getBean(CollegeService.class).createCollege(request);
+        nodeA.getBean(InvalidationPublisher.class).flush();
+
+        CollegeSnapshotCache snapshotB = nodeB.getBean(CollegeSnapshotCache.class);
+        await(() -> snapshotB.get(created.getId()) != null);
+
+        request.setName("University of Central Florida");
+        nodeA.getBean(CollegeService.class).updateCollege(created.getId(), request);
+        nodeA.getBean(InvalidationPublisher.class).flush();
+
+        await(() -> "University of Central Florida".equals(snapshotB.get(created.getId()).getName()));
+    }
+
+    @Test
+    void burstIsCoalescedIntoOneBatch() throws Exception {
+        double sentBefore = counter(nodeA, "cache.invalidation.sent");
+        double coalescedBefore = counter(nodeA, "cache.invalidation.coalesced");
+        double receivedBefore = counter(nodeB, "cache.invalidation.received");
+
+        // 100 changes to one event and a change to every event: only the last one needs sending
+        InvalidationPublisher publisher = nodeA.getBean(InvalidationPublisher.class);
+        for (int i = 0; i < 100; i++) {
+            publisher.publish(Invalidation.event(42L));
+        }
+        publisher.publish(Invalidation.allEvents());
+        publisher.flush();
+
+        assertEquals(1, counter(nodeA, "cache.invalidation.sent") - sentBefore);
+        assertEquals(100, counter(nodeA, "cache.invalidation.coalesced") - coalescedBefore);
+        await(() -> counter(nodeB, "cache.invalidation.received") - receivedBefore == 1);
+    }
+
+    @Test
+    void userWhoSignsUpOnOneNodeIsSearchableOnTheOther() throws Exception {
+        // Read-only DTO, built the way the controller gets it
+        SignupRequest signup = nodeA.getBean(ObjectMapper.class).convertValue(Map.of(
+                "email", "ada.lovelace@cluster.test",
+                "firstName", "Ada",
+                "lastName", "Lovelace",
+                "password", "password",
+                "role", "STUDENT"), SignupRequest.class);
+        nodeA.getBean(AuthService.class).registerUser(signup);
+        nodeA.getBean(InvalidationPublisher.class).flush();
+
+        // Neither the super admin nor the new user has a college, so both are in the same search scope
+        signInAsSuperAdmin();
+        UserSearchService searchB = nodeB.getBean(UserSearchService.class);
+        await(() -> searchB.searchUsers("lovelace", null, 0, 10).stream()
+                .anyMatch(user -> signup.getEmail().equals(user.getEmail())));
+    }
+
+    @Test
+    void bulkApproveAndRejectReachTheOtherNode() throws Exception {
+        List<Long> approved = List.of(pendingPublicEvent("Homecoming"), pendingPublicEvent("Career Fair"));
+        List<Long> rejected = List.of(pendingPublicEvent("Chess Night"), pendingPublicEvent("Movie Night"));
+        signInAsSuperAdmin();
+        PublicEventService publicEventService = nodeA.getBean(PublicEventService.class);
+        InvalidationPublisher publisher = nodeA.getBean(InvalidationPublisher.class);
+
+        double receivedBefore = counter(nodeB, "cache.invalidation.received");
+        publicEventService.approvePublicEvents(approved);
+        publisher.flush();
+        // One invalidation per processed event
+        await(() -> counter(nodeB, "cache.invalidation.received") - receivedBefore == 2);
+
+        double receivedBeforeReject = counter(nodeB, "cache.invalidation.received");
+        publicEventService.rejectPublicEvents(rejected);
+        publisher.flush();
+        await(() -> counter(nodeB, "cache.invalidation.received") - receivedBeforeReject == 2);
+    }
+
+    private static void signInAsSuperAdmin() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                superAdmin.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_SUPER_ADMIN"))));
+    }
+
+    // A public event awaiting approval, saved through node A
+    private static Long pendingPublicEvent(String name) {
+        return nodeA.getBean(TransactionTemplate.class).execute(status -> {
+            College college = new College();
+            college.setName(name + " College");
+            college.setLocation("Orlando, FL");
+            college.setDescription("Hosts " + name);
+            college.setCreatedBy(superAdmin);
+            college = nodeA.getBean(CollegeRepository.class).save(college);
+
+            Location location = new Location();
+            location.setName("Student Union");
+            location.setAddress("12715 Pegasus Dr, Orlando, FL");
+            location.setLatitude(new BigDecimal("28.60190000"));
+            location.setLongitude(new BigDecimal("-81.20040000"));
+            location = nodeA.getBean(LocationRepository.class).save(location);
+
+            Event event = new Event();
+            event.setName(name);
+            event.setDescription(name + " description");
+            event.setTime(LocalTime.of(18, 0));
+            event.setDate(LocalDate.of(2026, 11, 1));
+            event.setLocation(location);
+            event.setCreatedBy(superAdmin);
+            event.setCollege(college);
+            event.setEventType(EventType.PUBLIC);
+            event.setContactEmail("super@cluster.test");
+            event.setContactPhone("407-555-0100");
+            event = nodeA.getBean(EventRepository.class).save(event);
+
+            // Same transaction as the event, so it is still managed when the details take its ID
+            PublicEvent details = new PublicEvent();
+            details.setEvent(event);
+            details.setSuperAdmin(superAdmin);
+            details.setApproved(false);
+            nodeA.getBean(PublicEventRepository.class).save(details);
+            return event.getId();
+        });
+    }
+
+    private static ConfigurableApplicationContext startNode(int udpPort, String peers, String ddlAuto) {
+        return new SpringApplicationBuilder(CollegeEventWebsiteApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + DATABASE_URL,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--app.invalidation.transport=udp",
+                        "--app.invalidation.udp.port=" + udpPort,
+                        "--app.invalidation.udp.peers=" + peers,
+                        "--app.invalidation.udp.secret=" + BUS_SECRET,
+                        "--app.invalidation.flush-interval-ms=3600000",
+                        "--app.jit-warmup.enabled=false");
+    }
+
+    private static int freeUdpPort() throws SocketException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double counter(ConfigurableApplicationContext node, String name) {
+        return node.getBean(MeterRegistry.class).get(name).counter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Invalidation did not reach the other node in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
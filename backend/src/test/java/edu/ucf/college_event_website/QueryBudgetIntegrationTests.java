@@ -0,0 +1,745 @@
+package edu.ucf.college_event_website;
+
+import edu.ucf.college_event_website.exception.QueryBudgetExceededException;
+import edu.ucf.college_event_website.model.*;
+import edu.ucf.college_event_website.repository.*;
+import edu.ucf.college_event_website.service.CollegeAnalyticsService;
+import edu.ucf.college_event_website.service.CollegeService;
+import edu.ucf.college_event_website.service.LeaderboardService;
+import edu.ucf.college_event_website.service.UserSearchService;
+import edu.ucf.college_event_website.util.EventJsonCache;
+import edu.ucf.college_event_website.util.JwtUtil;
+import edu.ucf.college_event_website.util.QueryBudget;
+import edu.ucf.college_event_website.util.RsoDirectoryCache;
+import edu.ucf.college_event_website.util.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs every controller endpoint once against a small seeded H2 database with
+ * app.query-budget.fail-on-exceed=true (see src/test/resources/application.properties),
+ * so a request or service call that goes over its @QueryBudget fails at the offending statement.
+ * After each test the sql.budget.exceeded counters must not have moved either.
+ *
+ * Seed: one college with a super admin, an RSO admin and two students, an RSO with the admin and
+ * the first student as members, and one event of each kind (public approved, public pending,
+ * private, RSO). The approved public event has two comments and two ratings.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryBudgetIntegrationTests {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PublicEventRepository publicEventRepository;
+
+    @Autowired
+    private PrivateEventRepository privateEventRepository;
+
+    @Autowired
+    private RsoEventRepository rsoEventRepository;
+
+    @Autowired
+    private RsoRepository rsoRepository;
+
+    @Autowired
+    private RsoMembershipRepository rsoMembershipRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private CollegeService collegeService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private CollegeAnalyticsService collegeAnalyticsService;
+
+    @Autowired
+    private RsoDirectoryCache rsoDirectoryCache;
+
+    @Autowired
+    private EventJsonCache eventJsonCache;
+
+    private User superAdmin;
+    private User admin;
+    private User student;
+    private User otherStudent;
+    private College college;
+    private Location location;
+    private Rso rso;
+    private Event approvedEvent;
+    private Event pendingEvent;
+    private Event privateEvent;
+    private Event rsoEvent;
+    private Comment studentComment;
+
+    private double overrunsBefore;
+
+    @BeforeEach
+    void seed() {
+        truncateAllTables();
+
+        // One transaction, so the events are still managed when their subtype rows take their IDs
+        transactionTemplate.executeWithoutResult(status -> {
+            superAdmin = user("super@ucf.edu", "Sam", Role.SUPER_ADMIN, null);
+            college = new College();
+            college.setName("UCF");
+            college.setLocation("Orlando, FL");
+            college.setDescription("University of Central Florida");
+            college.setCreatedBy(superAdmin);
+            college = collegeRepository.save(college);
+
+            admin = user("admin@ucf.edu", "Alex", Role.ADMIN, college);
+            student = user("student@ucf.edu", "Jamie", Role.STUDENT, college);
+            otherStudent = user("other@ucf.edu", "Riley", Role.STUDENT, college);
+
+            location = new Location();
+            location.setName("Student Union");
+            location.setAddress("12715 Pegasus Dr, Orlando, FL");
+            location.setLatitude(new BigDecimal("28.60190000"));
+            location.setLongitude(new BigDecimal("-81.20040000"));
+            location = locationRepository.save(location);
+
+            rso = rso("Chess Club", admin, 2);
+            membership(admin, rso);
+            membership(student, rso);
+
+            approvedEvent = event("Homecoming", EventType.PUBLIC, LocalDate.of(2026, 11, 7));
+            publicEvent(approvedEvent, true);
+            pendingEvent = event("Hackathon", EventType.PUBLIC, LocalDate.of(2026, 11, 14));
+            publicEvent(pendingEvent, false);
+            privateEvent = event("Career Fair", EventType.PRIVATE, LocalDate.of(2026, 11, 21));
+            PrivateEvent privateDetails = new PrivateEvent();
+            privateDetails.setEvent(privateEvent);
+            privateDetails.setAdmin(admin);
+            privateEventRepository.save(privateDetails);
+            rsoEvent = event("Chess Night", EventType.RSO, LocalDate.of(2026, 11, 28));
+            RsoEvent rsoDetails = new RsoEvent();
+            rsoDetails.setEvent(rsoEvent);
+            rsoDetails.setRso(rso);
+            rsoEventRepository.save(rsoDetails);
+
+            studentComment = comment(approvedEvent, student, "See you there!");
+            comment(approvedEvent, admin, "Doors open at 6");
+            rating(approvedEvent, student, 4);
+            rating(approvedEvent, admin, 5);
+        });
+
+        // Caches built at startup from the (then empty) database
+        collegeService.loadCollegeSnapshot();
+        leaderboardService.loadFromDatabase();
+        userSearchService.loadFromDatabase();
+        collegeAnalyticsService.recomputeAll();
+        rsoDirectoryCache.evictCollege(college.getId());
+
+        // Event IDs restart with every seed, so JSON cached by the previous test would be served
+        eventJsonCache.invalidateAll();
+
+        overrunsBefore = overruns();
+    }
+
+    @AfterEach
+    void noBudgetExceeded() {
+        assertEquals(overrunsBefore, overruns(), "a request or service call went over its @QueryBudget");
+    }
+
+    @Test
+    void everyEndpointDeclaresAQueryBudget() {
+        handlerMapping.getHandlerMethods().values().stream()
+                .filter(method -> method.getBeanType().getPackageName().startsWith("edu.ucf.college_event_website"))
+                .forEach(method -> assertTrue(method.hasMethodAnnotation(QueryBudget.class),
+                        () -> describe(method) + " has no @QueryBudget"));
+    }
+
+    @Test
+    void statementOverTheLimitFails() {
+        SqlStatementCounter inspector = new SqlStatementCounter();
+        SqlStatementCounter.start();
+        try {
+            SqlStatementCounter.failAbove(1, "test");
+            inspector.inspect("select 1");
+            assertThrows(QueryBudgetExceededException.class, () -> inspector.inspect("select 2"));
+            // Only the statement that crossed the limit fails
+            inspector.inspect("select 3");
+            assertEquals(3, SqlStatementCounter.current());
+        } finally {
+            SqlStatementCounter.stop();
+        }
+    }
+
+    // Auth
+
+    @Test
+    void signup() throws Exception {
+        expect(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"new@ucf.edu\",\"password\":\"secret\",\"firstName\":\"Casey\","
+                        + "\"lastName\":\"Lee\",\"role\":\"STUDENT\",\"collegeId\":" + college.getId() + "}"),
+                null, status().isOk());
+    }
+
+    @Test
+    void login() throws Exception {
+        expect(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"student@ucf.edu\",\"password\":\"" + PASSWORD + "\"}"),
+                null, status().isOk());
+    }
+
+    @Test
+    void refresh() throws Exception {
+        expect(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content(tokenBody(jwtUtil.generateRefreshToken(student))),
+                null, status().isOk());
+    }
+
+    @Test
+    void logout() throws Exception {
+        expect(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON)
+                .content(tokenBody(jwtUtil.generateRefreshToken(student))),
+                student, status().isNoContent());
+    }
+
+    @Test
+    void verify() throws Exception {
+        expect(post("/api/auth/verify").contentType(MediaType.APPLICATION_JSON)
+                .content(tokenBody(jwtUtil.generateToken(student))),
+                null, status().isOk());
+    }
+
+    // Colleges
+
+    @Test
+    void getAllColleges() throws Exception {
+        expect(get("/api/colleges"), null, status().isOk());
+    }
+
+    @Test
+    void getCollegeById() throws Exception {
+        expect(get("/api/colleges/{id}", college.getId()), null, status().isOk());
+    }
+
+    @Test
+    void createCollege() throws Exception {
+        expect(post("/api/superadmin/colleges").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"USF\",\"location\":\"Tampa, FL\",\"description\":\"Bulls\"}"),
+                superAdmin, status().isCreated());
+    }
+
+    @Test
+    void updateCollege() throws Exception {
+        expect(put("/api/superadmin/colleges/{id}", college.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"UCF\",\"location\":\"Orlando, FL\",\"description\":\"Knights\"}"),
+                superAdmin, status().isOk());
+    }
+
+    @Test
+    void deleteCollege() throws Exception {
+        expect(delete("/api/superadmin/colleges/{id}", college.getId()), superAdmin, status().isNoContent());
+    }
+
+    @Test
+    void getCollegeAnalytics() throws Exception {
+        expect(get("/api/admin/colleges/{id}/analytics", college.getId()), admin, status().isOk());
+    }
+
+    // Events
+
+    @Test
+    void getAllAccessibleEvents() throws Exception {
+        // Approved public, own college's private and own RSO's events, not the pending one
+        expect(get("/api/events"), student, status().isOk(),
+                jsonPath("$[*].name", containsInAnyOrder("Homecoming", "Career Fair", "Chess Night")));
+    }
+
+    @Test
+    void getAllAccessibleEventsAsNonMember() throws Exception {
+        expect(get("/api/events"), otherStudent, status().isOk(),
+                jsonPath("$[*].name", containsInAnyOrder("Homecoming", "Career Fair")));
+    }
+
+    @Test
+    void getEventById() throws Exception {
+        expect(get("/api/events/{id}", approvedEvent.getId()), student, status().isOk());
+    }
+
+    @Test
+    void createEvent() throws Exception {
+        expect(post("/api/events").contentType(MediaType.APPLICATION_JSON)
+                .content(eventBody("Info Session", "PRIVATE")),
+                admin, status().isCreated());
+    }
+
+    @Test
+    void updateEvent() throws Exception {
+        expect(put("/api/events/{id}", privateEvent.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Career Fair (moved)\",\"date\":\"2026-12-05\"}"),
+                admin, status().isOk());
+    }
+
+    @Test
+    void deleteEvent() throws Exception {
+        expect(delete("/api/events/{id}", privateEvent.getId()), admin, status().isNoContent());
+    }
+
+    @Test
+    void getEventsByType() throws Exception {
+        expect(get("/api/events/filter/type/{type}", "PUBLIC"), student, status().isOk());
+    }
+
+    @Test
+    void getEventsByCollege() throws Exception {
+        expect(get("/api/events/filter/college/{id}", college.getId()), student, status().isOk());
+    }
+
+    @Test
+    void getEventsByDateRange() throws Exception {
+        expect(get("/api/events/filter/date").param("startDate", "2026-11-01").param("endDate", "2026-11-30"),
+                student, status().isOk());
+    }
+
+    // Comments and ratings
+
+    @Test
+    void getEventComments() throws Exception {
+        expect(get("/api/events/{id}/comments", approvedEvent.getId()), student, status().isOk());
+    }
+
+    @Test
+    void addComment() throws Exception {
+        expect(post("/api/events/{id}/comments", approvedEvent.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"Can't wait\"}"),
+                student, status().isCreated());
+    }
+
+    @Test
+    void updateComment() throws Exception {
+        expect(put("/api/events/{id}/comments/{commentId}", approvedEvent.getId(), studentComment.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"See you all there!\"}"),
+                student, status().isOk());
+    }
+
+    @Test
+    void deleteComment() throws Exception {
+        expect(delete("/api/events/{id}/comments/{commentId}", approvedEvent.getId(), studentComment.getId()),
+                student, status().isNoContent());
+    }
+
+    @Test
+    void rateEvent() throws Exception {
+        expect(post("/api/events/{id}/ratings", approvedEvent.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":3}"),
+                otherStudent, status().isCreated());
+    }
+
+    @Test
+    void changeRating() throws Exception {
+        expect(post("/api/events/{id}/ratings", approvedEvent.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":2}"),
+                student, status().isCreated());
+    }
+
+    @Test
+    void rateMissingEvent() throws Exception {
+        expect(post("/api/events/{id}/ratings", 999_999L).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":3}"),
+                student, status().isNotFound());
+    }
+
+    @Test
+    void concurrentFirstRatingsOfOneUserCountOnce() throws Exception {
+        int clients = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> ratings = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int value = i % 5 + 1;
+                ratings.add(pool.submit(() -> {
+                    expect(post("/api/events/{id}/ratings", approvedEvent.getId()).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"rating\":" + value + "}"),
+                            otherStudent, status().isCreated());
+                    return null;
+                }));
+            }
+            for (Future<?> rating : ratings) {
+                rating.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Exactly one of the racing requests inserted; the analytics counted it once
+        assertEquals(3, ratingRepository.findRatingTotalsByEventId(approvedEvent.getId()).getRatingCount());
+        expect(get("/api/admin/colleges/{id}/analytics", college.getId()), admin,
+                status().isOk(), jsonPath("$.ratingCount").value(3));
+    }
+
+    @Test
+    void getEventRating() throws Exception {
+        expect(get("/api/events/{id}/ratings", approvedEvent.getId()), student, status().isOk());
+    }
+
+    // Leaderboards
+
+    @Test
+    void getTopRated() throws Exception {
+        expect(get("/api/leaderboards/top-rated"), student, status().isOk());
+    }
+
+    @Test
+    void getMostDiscussed() throws Exception {
+        expect(get("/api/leaderboards/most-discussed"), student, status().isOk());
+    }
+
+    @Test
+    void getTopRatedByCollege() throws Exception {
+        expect(get("/api/leaderboards/colleges/{id}/top-rated", college.getId()), student, status().isOk());
+    }
+
+    @Test
+    void getMostDiscussedByCollege() throws Exception {
+        expect(get("/api/leaderboards/colleges/{id}/most-discussed", college.getId()), student, status().isOk());
+    }
+
+    // Locations and users
+
+    @Test
+    void createLocation() throws Exception {
+        expect(post("/api/admin/locations").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Library\",\"address\":\"12701 Pegasus Dr\","
+                        + "\"latitude\":28.6003,\"longitude\":-81.2012}"),
+                admin, status().isCreated());
+    }
+
+    @Test
+    void searchUsers() throws Exception {
+        expect(get("/api/users/search").param("email", "jam"), admin, status().isOk());
+    }
+
+    // Public event approval queue
+
+    @Test
+    void getPendingPublicEvents() throws Exception {
+        expect(get("/api/superadmin/public-events/pending"), superAdmin, status().isOk());
+    }
+
+    @Test
+    void getPendingPublicEventsPage() throws Exception {
+        expect(get("/api/superadmin/public-events/pending/page"), superAdmin, status().isOk());
+    }
+
+    @Test
+    void approvePublicEvents() throws Exception {
+        expect(post("/api/superadmin/public-events/approve").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventIds\":[" + pendingEvent.getId() + "]}"),
+                superAdmin, status().isOk());
+    }
+
+    @Test
+    void rejectPublicEvents() throws Exception {
+        expect(post("/api/superadmin/public-events/reject").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventIds\":[" + pendingEvent.getId() + "]}"),
+                superAdmin, status().isOk());
+    }
+
+    @Test
+    void approvePublicEvent() throws Exception {
+        expect(put("/api/superadmin/public-events/{id}/approve", pendingEvent.getId()), superAdmin, status().isOk());
+    }
+
+    @Test
+    void rejectPublicEvent() throws Exception {
+        expect(delete("/api/superadmin/public-events/{id}/reject", pendingEvent.getId()),
+                superAdmin, status().isNoContent());
+    }
+
+    // RSOs
+
+    @Test
+    void getAllRsos() throws Exception {
+        expect(get("/api/rsos"), student, status().isOk());
+    }
+
+    @Test
+    void getRsoDirectory() throws Exception {
+        expect(get("/api/rsos/directory"), student, status().isOk());
+    }
+
+    @Test
+    void getMyRsos() throws Exception {
+        expect(get("/api/admin/rsos"), admin, status().isOk());
+    }
+
+    @Test
+    void getRsoById() throws Exception {
+        expect(get("/api/rsos/{id}", rso.getId()), student, status().isOk());
+    }
+
+    @Test
+    void createRso() throws Exception {
+        expect(post("/api/admin/rsos").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Robotics\",\"description\":\"Build robots\",\"college\":{\"id\":"
+                        + college.getId() + "}}"),
+                admin, status().isCreated());
+    }
+
+    @Test
+    void updateRso() throws Exception {
+        expect(put("/api/admin/rsos/{id}", rso.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Chess Club\",\"description\":\"Weekly games\"}"),
+                admin, status().isOk());
+    }
+
+    @Test
+    void deleteRso() throws Exception {
+        Rso emptyRso = rso("Go Club", admin, 1);
+        membership(admin, emptyRso);
+
+        expect(delete("/api/admin/rsos/{id}", emptyRso.getId()), admin, status().isNoContent());
+    }
+
+    @Test
+    void getRsoMembers() throws Exception {
+        expect(get("/api/rsos/{id}/members", rso.getId()), student, status().isOk());
+    }
+
+    @Test
+    void getRsoMembersPage() throws Exception {
+        expect(get("/api/rsos/{id}/members/page", rso.getId()), student, status().isOk());
+    }
+
+    @Test
+    void joinRso() throws Exception {
+        expect(post("/api/rsos/{id}/join", rso.getId()), otherStudent, status().isOk());
+    }
+
+    @Test
+    void leaveRso() throws Exception {
+        expect(delete("/api/rsos/{id}/leave", rso.getId()), student, status().isOk());
+    }
+
+    @Test
+    void addMemberToRso() throws Exception {
+        expect(post("/api/admin/rsos/{id}/members", rso.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":" + otherStudent.getId() + "}"),
+                admin, status().isOk());
+    }
+
+    @Test
+    void bulkUpdateMembers() throws Exception {
+        expect(post("/api/admin/rsos/{id}/members/bulk", rso.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"addEmails\":[\"other@ucf.edu\"],\"removeUserIds\":[" + student.getId() + "]}"),
+                admin, status().isOk());
+    }
+
+    @Test
+    void removeMemberFromRso() throws Exception {
+        expect(delete("/api/admin/rsos/{id}/members/{userId}", rso.getId(), student.getId()),
+                admin, status().isNoContent());
+    }
+
+    @Test
+    void getRsoEvents() throws Exception {
+        expect(get("/api/rsos/{id}/events", rso.getId()), student, status().isOk());
+    }
+
+    @Test
+    void createRsoEvent() throws Exception {
+        expect(post("/api/rsos/{id}/events", rso.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(eventBody("Blitz Tournament", "RSO")),
+                admin, status().isCreated());
+    }
+
+    // Helpers
+
+    // Perform the request as the given user (null for anonymous) and check the status
+    private void expect(MockHttpServletRequestBuilder request, User as, ResultMatcher... matchers) throws Exception {
+        if (as != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(as));
+        }
+        mockMvc.perform(request).andExpectAll(matchers);
+    }
+
+    private double overruns() {
+        return meterRegistry.find("sql.budget.exceeded").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private static String describe(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+    }
+
+    private static String tokenBody(String token) {
+        return "{\"token\":\"" + token + "\"}";
+    }
+
+    private String eventBody(String name, String type) {
+        return "{\"name\":\"" + name + "\",\"description\":\"Seeded by the query budget tests\","
+                + "\"time\":\"18:00:00\",\"date\":\"2026-12-12\",\"locationId\":" + location.getId()
+                + ",\"collegeId\":" + college.getId() + ",\"eventType\":\"" + type + "\"}";
+    }
+
+    // Empty every table and reset the identity columns, so each test starts from the same seed
+    private void truncateAllTables() {
+        List<String> tables = jdbcTemplate.queryForList("SELECT table_name FROM information_schema.tables "
+                + "WHERE LOWER(table_schema) = 'public' AND table_type = 'BASE TABLE'", String.class);
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            for (String table : tables) {
+                jdbcTemplate.execute("TRUNCATE TABLE \"" + table + "\" RESTART IDENTITY");
+            }
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    private User user(String email, String firstName, Role role, College college) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName("Knight");
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user.setRole(role);
+        user.setCollege(college);
+        return userRepository.save(user);
+    }
+
+    private Rso rso(String name, User admin, int memberCount) {
+        Rso rso = new Rso();
+        rso.setName(name);
+        rso.setDescription(name + " at UCF");
+        rso.setAdmin(admin);
+        rso.setCollege(college);
+        rso.setMemberCount(memberCount);
+        rso.setStatus(RsoStatus.INACTIVE);
+        return rsoRepository.save(rso);
+    }
+
+    private void membership(User user, Rso rso) {
+        RsoMembership membership = new RsoMembership();
+        membership.setId(new RsoMembershipKey(user.getId(), rso.getId()));
+        membership.setUser(user);
+        membership.setRso(rso);
+        rsoMembershipRepository.save(membership);
+    }
+
+    private Event event(String name, EventType type, LocalDate date) {
+        Event event = new Event();
+        event.setName(name);
+        event.setDescription(name + " description");
+        event.setTime(LocalTime.of(18, 0));
+        event.setDate(date);
+        event.setLocation(location);
+        event.setCreatedBy(admin);
+        event.setCollege(college);
+        event.setEventType(type);
+        event.setContactEmail("admin@ucf.edu");
+        event.setContactPhone("407-555-0100");
+        return eventRepository.save(event);
+    }
+
+    private void publicEvent(Event event, boolean approved) {
+        PublicEvent publicEvent = new PublicEvent();
+        publicEvent.setEvent(event);
+        publicEvent.setSuperAdmin(approved ? superAdmin : admin);
+        publicEvent.setApproved(approved);
+        publicEventRepository.save(publicEvent);
+    }
+
+    private Comment comment(Event event, User user, String content) {
+        Comment comment = new Comment();
+        comment.setEvent(event);
+        comment.setUser(user);
+        comment.setContent(content);
+        comment.setTimestamp(LocalDateTime.of(2026, 10, 1, 12, 0));
+        return commentRepository.save(comment);
+    }
+
+    private void rating(Event event, User user, int value) {
+        Rating rating = new Rating();
+        rating.setId(new RatingKey(user.getId(), event.getId()));
+        rating.setUser(user);
+        rating.setEvent(event);
+        rating.setRatingValue(value);
+        ratingRepository.save(rating);
+    }
+}
@@ -0,0 +1,71 @@
+package edu.ucf.college_event_website.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The limiter gets one permit per pooled connection, even before the pool has opened one.
+ */
+class DatabaseConcurrencyFilterTests {
+
+    @Test
+    void poolThatHasNotStartedGetsHikarisDefaultSize() throws Exception {
+        // No size configured and no connection taken yet, so Hikari still reports -1
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            DatabaseConcurrencyFilter filter = filter(dataSource, 0);
+
+            assertEquals(10, availablePermits(filter));
+            assertRequestPasses(filter);
+        }
+    }
+
+    @Test
+    void configuredPoolSizeIsUsed() throws Exception {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(4);
+
+            assertEquals(4, availablePermits(filter(dataSource, 0)));
+            assertEquals(2, availablePermits(filter(dataSource, 2)));
+        }
+    }
+
+    private static DatabaseConcurrencyFilter filter(HikariDataSource dataSource, int maxConcurrent) {
+        DatabaseConcurrencyFilter filter = new DatabaseConcurrencyFilter();
+        ReflectionTestUtils.setField(filter, "dataSource", dataSource);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "maxConcurrent", maxConcurrent);
+        ReflectionTestUtils.setField(filter, "maxWaiting", 2000);
+        ReflectionTestUtils.setField(filter, "timeoutMs", 100L);
+        ReflectionTestUtils.setField(filter, "retryAfterSeconds", 1L);
+        filter.init();
+        return filter;
+    }
+
+    private static int availablePermits(DatabaseConcurrencyFilter filter) {
+        Semaphore permits = (Semaphore) ReflectionTestUtils.getField(filter, "permits");
+        return permits.availablePermits();
+    }
+
+    private static void assertRequestPasses(DatabaseConcurrencyFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(10, availablePermits(filter));
+    }
+}
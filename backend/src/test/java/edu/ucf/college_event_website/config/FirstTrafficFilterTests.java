@@ -0,0 +1,60 @@
+package edu.ucf.college_event_website.config;
+
+import edu.ucf.college_event_website.util.WarmupTraffic;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Real API requests are timed, warm-up requests are not, even one that outlives the warm-up.
+ */
+class FirstTrafficFilterTests {
+
+    private final WarmupTraffic warmupTraffic = new WarmupTraffic();
+
+    private FirstTrafficFilter filter;
+
+    @BeforeEach
+    void createFilter() {
+        filter = new FirstTrafficFilter();
+        ReflectionTestUtils.setField(filter, "warmupTraffic", warmupTraffic);
+        ReflectionTestUtils.setField(filter, "jitWarmup", new JitWarmup());
+        ReflectionTestUtils.setField(filter, "requests", 1);
+        filter.init();
+    }
+
+    @Test
+    void realRequestIsTimed() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(),
+                (request, response) -> { });
+
+        assertTrue(filter.getRecorder().isFull());
+    }
+
+    @Test
+    void warmupRequestFinishingAfterTheWarmupIsNotTimed() throws Exception {
+        String key = warmupTraffic.open();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader(WarmupTraffic.HEADER, key);
+        // The warm-up ends while this request is still running
+        FilterChain chain = (servletRequest, servletResponse) -> warmupTraffic.close();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertFalse(filter.getRecorder().isFull());
+    }
+
+    @Test
+    void nonApiRequestIsNotTimed() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                (request, response) -> { });
+
+        assertFalse(filter.getRecorder().isFull());
+    }
+}
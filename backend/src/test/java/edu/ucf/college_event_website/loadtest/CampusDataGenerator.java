@@ -0,0 +1,328 @@
+package edu.ucf.college_event_website.loadtest;
+
+import edu.ucf.college_event_website.model.*;
+import edu.ucf.college_event_website.repository.*;
+import edu.ucf.college_event_website.service.CollegeAnalyticsService;
+import edu.ucf.college_event_website.service.CollegeService;
+import edu.ucf.college_event_website.service.LeaderboardService;
+import edu.ucf.college_event_website.service.UserSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Seeds the database through the application's repositories with a synthetic campus of the given scale:
+ * colleges, admins and students, RSOs and their memberships, public, private and RSO events,
+ * comments and ratings. Popularity is skewed the way real data is: a few RSOs have most of the members
+ * and a few events get most of the comments and ratings.
+ * The same seed gives the same data. The caches the application builds at startup are reloaded afterwards.
+ */
+public class CampusDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(CampusDataGenerator.class);
+
+    // Password of every generated user
+    public static final String PASSWORD = "load-test-password";
+
+    // Ratings lean positive, as they do on real event sites
+    private static final int[] RATING_VALUES = {1, 2, 3, 3, 4, 4, 4, 5, 5, 5};
+
+    /**
+     * Size of the generated campus, per college.
+     * Comments and ratings are averages per event, the popular events get far more.
+     */
+    public record Scale(int colleges, int studentsPerCollege, int rsosPerCollege, int eventsPerCollege,
+                        int commentsPerEvent, int ratingsPerEvent) {
+
+        // Scale from -Dload.colleges=..., -Dload.students-per-college=... and so on
+        public static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("load.colleges", 5),
+                    Integer.getInteger("load.students-per-college", 400),
+                    Integer.getInteger("load.rsos-per-college", 20),
+                    Integer.getInteger("load.events-per-college", 150),
+                    Integer.getInteger("load.comments-per-event", 10),
+                    Integer.getInteger("load.ratings-per-event", 20));
+        }
+    }
+
+    private final ApplicationContext context;
+    private final Scale scale;
+    private final Random random;
+    private final int activeMemberThreshold;
+
+    private final UserRepository userRepository;
+    private final CollegeRepository collegeRepository;
+    private final LocationRepository locationRepository;
+    private final RsoRepository rsoRepository;
+    private final RsoMembershipRepository rsoMembershipRepository;
+    private final EventRepository eventRepository;
+    private final PublicEventRepository publicEventRepository;
+    private final PrivateEventRepository privateEventRepository;
+    private final RsoEventRepository rsoEventRepository;
+    private final CommentRepository commentRepository;
+    private final RatingRepository ratingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CampusDataGenerator(ApplicationContext context, Scale scale, long seed) {
+        this.context = context;
+        this.scale = scale;
+        this.random = new Random(seed);
+        this.activeMemberThreshold = context.getEnvironment()
+                .getProperty("app.rso.active-member-threshold", Integer.class, 5);
+
+        userRepository = context.getBean(UserRepository.class);
+        collegeRepository = context.getBean(CollegeRepository.class);
+        locationRepository = context.getBean(LocationRepository.class);
+        rsoRepository = context.getBean(RsoRepository.class);
+        rsoMembershipRepository = context.getBean(RsoMembershipRepository.class);
+        eventRepository = context.getBean(EventRepository.class);
+        publicEventRepository = context.getBean(PublicEventRepository.class);
+        privateEventRepository = context.getBean(PrivateEventRepository.class);
+        rsoEventRepository = context.getBean(RsoEventRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        ratingRepository = context.getBean(RatingRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    // Generate the campus and return the emails of every admin and student, in random order
+    public List<String> generate() {
+        long start = System.currentTimeMillis();
+
+        // Hash once, every user shares the password (logins still pay the full check)
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        User superAdmin = userRepository.save(
+                user("super@loadtest.edu", "Sam", Role.SUPER_ADMIN, null, passwordHash));
+
+        List<String> emails = new ArrayList<>();
+        for (int c = 0; c < scale.colleges(); c++) {
+            // One transaction per college, so the saved events are still managed when their subtype rows take their IDs
+            int index = c;
+            emails.addAll(transactionTemplate.execute(status -> generateCollege(index, superAdmin, passwordHash)));
+        }
+        Collections.shuffle(emails, random);
+
+        reloadCaches();
+        log.info("Generated {} colleges, {} users, {} RSOs, {} events, {} comments, {} ratings in {} ms",
+                collegeRepository.count(), userRepository.count(), rsoRepository.count(), eventRepository.count(),
+                commentRepository.count(), ratingRepository.count(), System.currentTimeMillis() - start);
+        return emails;
+    }
+
+    private List<String> generateCollege(int c, User superAdmin, String passwordHash) {
+        String domain = "college" + c + ".loadtest.edu";
+
+        College college = new College();
+        college.setName("College " + c);
+        college.setLocation("City " + c);
+        college.setDescription("Generated college " + c);
+        college.setCreatedBy(superAdmin);
+        college = collegeRepository.save(college);
+
+        List<Location> locations = new ArrayList<>();
+        for (int l = 0; l < 10; l++) {
+            Location location = new Location();
+            location.setName("Building " + l + " at college " + c);
+            location.setAddress(l + " University Blvd, City " + c);
+            location.setLatitude(coordinate(28.6 + c));
+            location.setLongitude(coordinate(-81.2 - c));
+            locations.add(location);
+        }
+        locations = locationRepository.saveAll(locations);
+
+        // One admin for every two RSOs, the rest students
+        int adminCount = Math.max(1, scale.rsosPerCollege() / 2);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < adminCount; i++) {
+            users.add(user("admin" + i + "@" + domain, "Admin" + i, Role.ADMIN, college, passwordHash));
+        }
+        for (int i = 0; i < scale.studentsPerCollege(); i++) {
+            users.add(user("student" + i + "@" + domain, "Student" + i, Role.STUDENT, college, passwordHash));
+        }
+        users = userRepository.saveAll(users);
+        List<User> admins = users.subList(0, adminCount);
+        List<User> students = users.subList(adminCount, users.size());
+
+        List<Rso> rsos = generateRsos(college, admins, students);
+        List<Event> events = generateEvents(college, superAdmin, admins, rsos, locations);
+        generateComments(events, users);
+        generateRatings(events, users);
+
+        return users.stream().map(User::getEmail).toList();
+    }
+
+    // RSOs with Zipf-sized memberships: each student joins up to three, mostly the popular ones
+    private List<Rso> generateRsos(College college, List<User> admins, List<User> students) {
+        int rsoCount = scale.rsosPerCollege();
+        List<Set<Long>> members = new ArrayList<>();
+        for (int r = 0; r < rsoCount; r++) {
+            Set<Long> rsoMembers = new LinkedHashSet<>();
+            rsoMembers.add(admins.get(r % admins.size()).getId());
+            members.add(rsoMembers);
+        }
+        Zipf popularity = new Zipf(rsoCount, 1.0);
+        for (User student : students) {
+            int joins = random.nextInt(4);
+            for (int j = 0; j < joins; j++) {
+                members.get(popularity.next(random)).add(student.getId());
+            }
+        }
+
+        List<Rso> rsos = new ArrayList<>();
+        for (int r = 0; r < rsoCount; r++) {
+            Rso rso = new Rso();
+            rso.setName("Club " + r + " of " + college.getName());
+            rso.setDescription("Generated RSO " + r);
+            rso.setAdmin(admins.get(r % admins.size()));
+            rso.setCollege(college);
+            rso.setMemberCount(members.get(r).size());
+            rso.setStatus(members.get(r).size() >= activeMemberThreshold ? RsoStatus.ACTIVE : RsoStatus.INACTIVE);
+            rsos.add(rso);
+        }
+        rsos = rsoRepository.saveAll(rsos);
+
+        for (int r = 0; r < rsoCount; r++) {
+            rsoMembershipRepository.batchInsertMembers(rsos.get(r).getId(), members.get(r));
+        }
+        return rsos;
+    }
+
+    // 40% public (most approved), 35% private, 25% RSO events, from a month ago to three months ahead
+    private List<Event> generateEvents(College college, User superAdmin, List<User> admins, List<Rso> rsos,
+                                       List<Location> locations) {
+        Zipf rsoActivity = new Zipf(rsos.size(), 1.0);
+        List<Event> events = new ArrayList<>();
+        List<Rso> eventRsos = new ArrayList<>();
+        for (int e = 0; e < scale.eventsPerCollege(); e++) {
+            int roll = random.nextInt(100);
+            EventType type = roll < 40 ? EventType.PUBLIC : roll < 75 ? EventType.PRIVATE : EventType.RSO;
+            Rso rso = type == EventType.RSO ? rsos.get(rsoActivity.next(random)) : null;
+            User creator = rso != null ? rso.getAdmin() : admins.get(random.nextInt(admins.size()));
+
+            Event event = new Event();
+            event.setName("Event " + e + " at " + college.getName());
+            event.setDescription("Generated " + type.name().toLowerCase() + " event " + e);
+            event.setTime(LocalTime.of(8 + random.nextInt(14), random.nextBoolean() ? 0 : 30));
+            event.setDate(LocalDate.now().plusDays(random.nextInt(120) - 30));
+            event.setLocation(locations.get(random.nextInt(locations.size())));
+            event.setCreatedBy(creator);
+            event.setCollege(college);
+            event.setEventType(type);
+            event.setContactEmail(creator.getEmail());
+            event.setContactPhone("407-555-" + String.format("%04d", random.nextInt(10_000)));
+            events.add(event);
+            eventRsos.add(rso);
+        }
+        events = eventRepository.saveAll(events);
+
+        List<PublicEvent> publicEvents = new ArrayList<>();
+        List<PrivateEvent> privateEvents = new ArrayList<>();
+        List<RsoEvent> rsoEvents = new ArrayList<>();
+        for (int e = 0; e < events.size(); e++) {
+            Event event = events.get(e);
+            switch (event.getEventType()) {
+                case PUBLIC -> {
+                    PublicEvent details = new PublicEvent();
+                    details.setEvent(event);
+                    details.setSuperAdmin(superAdmin);
+                    details.setApproved(random.nextInt(10) < 8);
+                    publicEvents.add(details);
+                }
+                case PRIVATE -> {
+                    PrivateEvent details = new PrivateEvent();
+                    details.setEvent(event);
+                    details.setAdmin(event.getCreatedBy());
+                    privateEvents.add(details);
+                }
+                case RSO -> {
+                    RsoEvent details = new RsoEvent();
+                    details.setEvent(event);
+                    details.setRso(eventRsos.get(e));
+                    rsoEvents.add(details);
+                }
+            }
+        }
+        publicEventRepository.saveAll(publicEvents);
+        privateEventRepository.saveAll(privateEvents);
+        rsoEventRepository.saveAll(rsoEvents);
+        return events;
+    }
+
+    private void generateComments(List<Event> events, List<User> users) {
+        List<Event> byPopularity = shuffled(events);
+        Zipf popularity = new Zipf(events.size(), 1.1);
+        int total = events.size() * scale.commentsPerEvent();
+        List<Comment> comments = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            Comment comment = new Comment();
+            comment.setEvent(byPopularity.get(popularity.next(random)));
+            comment.setUser(users.get(random.nextInt(users.size())));
+            comment.setContent("Generated comment " + i);
+            comment.setTimestamp(LocalDateTime.now().minusMinutes(random.nextInt(60 * 24 * 30)));
+            comments.add(comment);
+        }
+        commentRepository.saveAll(comments);
+    }
+
+    // One rating per user and event, a draw that repeats a pair is skipped
+    private void generateRatings(List<Event> events, List<User> users) {
+        List<Event> byPopularity = shuffled(events);
+        Zipf popularity = new Zipf(events.size(), 1.1);
+        int total = events.size() * scale.ratingsPerEvent();
+        Set<RatingKey> rated = new HashSet<>();
+        List<Rating> ratings = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            Event event = byPopularity.get(popularity.next(random));
+            User user = users.get(random.nextInt(users.size()));
+            RatingKey key = new RatingKey(user.getId(), event.getId());
+            if (!rated.add(key)) {
+                continue;
+            }
+            Rating rating = new Rating();
+            rating.setId(key);
+            rating.setUser(user);
+            rating.setEvent(event);
+            rating.setRatingValue(RATING_VALUES[random.nextInt(RATING_VALUES.length)]);
+            ratings.add(rating);
+        }
+        ratingRepository.saveAll(ratings);
+    }
+
+    // The snapshot, leaderboard, search and analytics caches were built from the empty database at startup
+    private void reloadCaches() {
+        context.getBean(CollegeService.class).loadCollegeSnapshot();
+        context.getBean(LeaderboardService.class).loadFromDatabase();
+        context.getBean(UserSearchService.class).loadFromDatabase();
+        context.getBean(CollegeAnalyticsService.class).recomputeAll();
+    }
+
+    private <T> List<T> shuffled(List<T> items) {
+        List<T> copy = new ArrayList<>(items);
+        Collections.shuffle(copy, random);
+        return copy;
+    }
+
+    private BigDecimal coordinate(double center) {
+        return BigDecimal.valueOf(center + (random.nextDouble() - 0.5) / 50).setScale(8, RoundingMode.HALF_UP);
+    }
+
+    private static User user(String email, String firstName, Role role, College college, String passwordHash) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName("Generated");
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        user.setCollege(college);
+        return user;
+    }
+}
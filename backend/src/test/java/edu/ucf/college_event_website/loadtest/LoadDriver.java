@@ -0,0 +1,326 @@
+package edu.ucf.college_event_website.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.CollegeEventWebsiteApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-loop load test of a locally started application on the in-memory H2 database (MySQL mode)
+ * of the test profile, seeded by CampusDataGenerator. Nothing leaves the machine.
+ * Each client is a virtual thread that logs in as a generated user (active users more often) and then
+ * sends a mix of feed, detail, comment, rate and login requests with no think time. Detail, comment
+ * and rate requests target events from the client's last feed. After a warm-up, it measures for a fixed
+ * time and prints the throughput and latency percentiles of each endpoint.
+ * To measure against MySQL instead, point spring.datasource.url (and credentials) at a local server.
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.loadtest.LoadDriver
+ *   [-Dload.clients=200 -Dload.warmup-seconds=10 -Dload.duration-seconds=60 -Dload.seed=42 -Dload.colleges=5 ...]
+ */
+public class LoadDriver {
+
+    // The traffic mix: each request and its share of what a client sends
+    enum Operation {
+        LOGIN("POST /api/auth/login", 5),
+        FEED("GET /api/events", 40),
+        DETAIL("GET /api/events/{id}", 35),
+        COMMENT("POST /api/events/{id}/comments", 10),
+        RATE("POST /api/events/{id}/ratings", 10);
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(operation -> operation.weight).sum();
+
+        private final String endpoint;
+        private final int weight;
+
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+
+        static Operation pick(Random random) {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return FEED;
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final List<String> emails;
+    private final Zipf userActivity;
+    private final long seed;
+
+    public LoadDriver(HttpClient httpClient, URI baseUri, List<String> emails, long seed) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.emails = emails;
+        this.userActivity = new Zipf(emails.size(), 0.8);
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) {
+        int clients = Integer.getInteger("load.clients", 200);
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+
+        runAgainstNewApplication(clients, warmup, duration, args).print(System.out);
+    }
+
+    // Start the application (arguments as on its command line), seed it, run the clients and shut it down
+    static Report runAgainstNewApplication(int clients, Duration warmup, Duration duration, String... args) {
+        CampusDataGenerator.Scale scale = CampusDataGenerator.Scale.fromSystemProperties();
+        long seed = Long.getLong("load.seed", 42);
+
+        // As command-line arguments, so they win over the test application.properties on the classpath
+        List<String> arguments = new ArrayList<>(List.of("--server.port=0", "--app.query-budget.fail-on-exceed=false",
+                "--app.rate-limit.enabled=false", "--app.jit-warmup.enabled=false",
+                // Hibernate statistics feed the metrics; their per-session log line would only slow the server down
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"));
+        arguments.addAll(Arrays.asList(args));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CollegeEventWebsiteApplication.class)
+                .run(arguments.toArray(String[]::new));
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            List<String> emails = new CampusDataGenerator(context, scale, seed).generate();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            boolean virtualThreads = context.getEnvironment()
+                    .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+            System.out.printf("%s, %s threads, %d clients, %d s warm-up, %d s measured%n",
+                    scale, virtualThreads ? "virtual" : "platform", clients, warmup.toSeconds(), duration.toSeconds());
+            return new LoadDriver(httpClient, URI.create("http://localhost:" + port), emails, seed)
+                    .run(clients, warmup, duration);
+        } finally {
+            context.close();
+        }
+    }
+
+    // Run the clients through the warm-up and the measured time, and return what was measured
+    public Report run(int clients, Duration warmup, Duration duration) {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long until = measureFrom + duration.toNanos();
+
+        List<Recorder> recorders = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Recorder recorder = new Recorder(measureFrom);
+                recorders.add(recorder);
+                Random random = new Random(seed + i);
+                executor.submit(() -> new Client(random, recorder).run(until));
+            }
+        }
+        return new Report(recorders, duration);
+    }
+
+    // One simulated user, only ever run on its own virtual thread
+    private final class Client {
+        private final Random random;
+        private final Recorder recorder;
+        private final String email;
+        private String token;
+        private List<Long> eventIds = List.of();
+
+        private Client(Random random, Recorder recorder) {
+            this.random = random;
+            this.recorder = recorder;
+            this.email = emails.get(userActivity.next(random));
+        }
+
+        void run(long until) {
+            try {
+                while (System.nanoTime() < until) {
+                    Operation operation = token == null ? Operation.LOGIN
+                            : eventIds.isEmpty() ? Operation.FEED
+                            : Operation.pick(random);
+                    switch (operation) {
+                        case LOGIN -> login();
+                        case FEED -> feed();
+                        case DETAIL -> send(Operation.DETAIL, authorized("/api/events/" + anyEvent()).GET());
+                        case COMMENT -> send(Operation.COMMENT, authorized("/api/events/" + anyEvent() + "/comments")
+                                .POST(json(Map.of("content", "Load test comment"))));
+                        case RATE -> send(Operation.RATE, authorized("/api/events/" + anyEvent() + "/ratings")
+                                .POST(json(Map.of("rating", 1 + random.nextInt(5)))));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void login() throws InterruptedException {
+            HttpResponse<byte[]> response = send(Operation.LOGIN, request("/api/auth/login")
+                    .POST(json(Map.of("email", email, "password", CampusDataGenerator.PASSWORD))));
+            if (response != null) {
+                token = read(response).path("token").asText(null);
+            }
+        }
+
+        private void feed() throws InterruptedException {
+            HttpResponse<byte[]> response = send(Operation.FEED, authorized("/api/events").GET());
+            if (response != null) {
+                List<Long> ids = new ArrayList<>();
+                read(response).forEach(event -> ids.add(event.path("id").asLong()));
+                eventIds = ids;
+            }
+        }
+
+        private long anyEvent() {
+            return eventIds.get(random.nextInt(eventIds.size()));
+        }
+
+        // Send and record the request, returning the response if it succeeded
+        private HttpResponse<byte[]> send(Operation operation, HttpRequest.Builder request) throws InterruptedException {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                boolean succeeded = response.statusCode() < 400;
+                recorder.record(operation, start, System.nanoTime(), succeeded);
+                return succeeded ? response : null;
+            } catch (IOException e) {
+                recorder.record(operation, start, System.nanoTime(), false);
+                return null;
+            }
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return request(path).header("Authorization", "Bearer " + token);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Map<String, ?> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private JsonNode read(HttpResponse<byte[]> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return objectMapper.missingNode();
+        }
+    }
+
+    // Latencies of one client, so clients never contend on shared state while measuring
+    static final class Recorder {
+        private final long measureFrom;
+        private final long[][] latencies = new long[Operation.values().length][64];
+        private final int[] counts = new int[Operation.values().length];
+        private final int[] errors = new int[Operation.values().length];
+
+        Recorder(long measureFrom) {
+            this.measureFrom = measureFrom;
+        }
+
+        // Requests started during the warm-up are not recorded
+        void record(Operation operation, long start, long end, boolean succeeded) {
+            if (start < measureFrom) {
+                return;
+            }
+            int index = operation.ordinal();
+            if (counts[index] == latencies[index].length) {
+                latencies[index] = Arrays.copyOf(latencies[index], counts[index] * 2);
+            }
+            latencies[index][counts[index]++] = end - start;
+            if (!succeeded) {
+                errors[index]++;
+            }
+        }
+    }
+
+    // Throughput and latency percentiles per endpoint, merged from all clients
+    public static final class Report {
+        private final Duration duration;
+        private final long[][] latencies = new long[Operation.values().length][];
+        private final int[] errors = new int[Operation.values().length];
+
+        Report(List<Recorder> recorders, Duration duration) {
+            this.duration = duration;
+            for (Operation operation : Operation.values()) {
+                int index = operation.ordinal();
+                long[] merged = new long[recorders.stream().mapToInt(recorder -> recorder.counts[index]).sum()];
+                int offset = 0;
+                for (Recorder recorder : recorders) {
+                    System.arraycopy(recorder.latencies[index], 0, merged, offset, recorder.counts[index]);
+                    offset += recorder.counts[index];
+                    errors[index] += recorder.errors[index];
+                }
+                Arrays.sort(merged);
+                latencies[index] = merged;
+            }
+        }
+
+        public void print(PrintStream out) {
+            out.printf("%-34s %9s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            for (Operation operation : Operation.values()) {
+                long[] sorted = latencies[operation.ordinal()];
+                out.printf("%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        operation.endpoint, sorted.length, errors[operation.ordinal()], throughput(sorted.length),
+                        percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                        percentile(sorted, 1.0));
+            }
+        }
+
+        // Requests per second over all endpoints
+        public double throughput() {
+            return throughput(Arrays.stream(latencies).mapToInt(sorted -> sorted.length).sum());
+        }
+
+        // Failed requests over all endpoints
+        public int errors() {
+            return Arrays.stream(errors).sum();
+        }
+
+        // Latency percentile of one endpoint in milliseconds
+        public double percentile(Operation operation, double p) {
+            return percentile(latencies[operation.ordinal()], p);
+        }
+
+        private double throughput(int requests) {
+            return requests / (duration.toMillis() / 1000.0);
+        }
+
+        // Nearest-rank percentile in milliseconds
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+        }
+    }
+}
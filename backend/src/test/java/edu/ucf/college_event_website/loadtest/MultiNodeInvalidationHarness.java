@@ -0,0 +1,284 @@
+package edu.ucf.college_event_website.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.CollegeEventWebsiteApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.h2.tools.Server;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Runs several application nodes, each in its own JVM, on one shared H2 database (served over TCP by this
+ * process) with the UDP invalidation bus between them on the loopback interface. Node 0 runs in this JVM
+ * and is seeded by CampusDataGenerator, the others are started as child processes.
+ * For each trial a student loads an event on every other node (caching its JSON there), comments on it
+ * through node 0, then polls the other nodes until their response shows the new comment.
+ * It prints how long the invalidation took to become visible and how many reads never caught up,
+ * then node 0's bus counters (sent, coalesced).
+ * Child node logs go to target/invalidation-harness-node-N.log.
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.loadtest.MultiNodeInvalidationHarness
+ *   [-Dharness.nodes=3 -Dharness.trials=50 -Dload.colleges=2 -Dload.students-per-college=100 ...]
+ */
+public class MultiNodeInvalidationHarness {
+
+    // A read still stale after this long counts as never caught up
+    private static final Duration STALE_AFTER = Duration.ofSeconds(5);
+
+    private static final Duration NODE_START_TIMEOUT = Duration.ofMinutes(2);
+
+    // Signs the datagrams between the nodes
+    private static final String BUS_SECRET = "invalidation-harness-secret-0123456789";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    public static void main(String[] args) throws Exception {
+        new MultiNodeInvalidationHarness().run(Integer.getInteger("harness.nodes", 3),
+                Integer.getInteger("harness.trials", 50));
+    }
+
+    void run(int nodes, int trials) throws Exception {
+        int databasePort = freeTcpPort();
+        Server database = Server.createTcpServer("-tcpPort", String.valueOf(databasePort), "-ifNotExists").start();
+        String databaseUrl = "jdbc:h2:tcp://localhost:" + databasePort
+                + "/mem:invalidation_harness;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+        List<Integer> udpPorts = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            udpPorts.add(freeUdpPort());
+        }
+        String peers = udpPorts.stream().map(port -> "127.0.0.1:" + port).collect(Collectors.joining(","));
+
+        List<Process> children = new ArrayList<>();
+        ConfigurableApplicationContext nodeZero = null;
+        try {
+            // Node 0 creates the schema and seeds it. As command-line arguments, so they win over the
+            // test application.properties on the classpath (its own in-memory database among them)
+            List<String> arguments = new ArrayList<>(List.of("--server.port=0"));
+            for (String property : nodeProperties(0, databaseUrl, "create", udpPorts.get(0), peers)) {
+                arguments.add("--" + property);
+            }
+            nodeZero = new SpringApplicationBuilder(CollegeEventWebsiteApplication.class)
+                    .run(arguments.toArray(String[]::new));
+            List<String> emails = new CampusDataGenerator(nodeZero, CampusDataGenerator.Scale.fromSystemProperties(),
+                    Long.getLong("load.seed", 42)).generate();
+
+            List<URI> nodeUris = new ArrayList<>();
+            nodeUris.add(URI.create("http://localhost:" + ((WebServerApplicationContext) nodeZero).getWebServer().getPort()));
+            for (int i = 1; i < nodes; i++) {
+                int httpPort = freeTcpPort();
+                children.add(startChild(i, httpPort, databaseUrl, udpPorts.get(i), peers));
+                nodeUris.add(URI.create("http://localhost:" + httpPort));
+            }
+            for (URI uri : nodeUris.subList(1, nodeUris.size())) {
+                awaitStarted(uri);
+            }
+
+            String token = login(nodeUris.get(0), emails.get(0));
+            List<Long> eventIds = new ArrayList<>();
+            read(send(get(nodeUris.get(0), "/api/events", token))).forEach(event -> eventIds.add(event.path("id").asLong()));
+            if (eventIds.isEmpty()) {
+                throw new IllegalStateException("The generated student can see no events");
+            }
+
+            long[] visibleAfter = new long[trials * (nodes - 1)];
+            int measured = 0;
+            int stale = 0;
+            for (int trial = 0; trial < trials; trial++) {
+                long eventId = eventIds.get(trial % eventIds.size());
+                String path = "/api/events/" + eventId;
+                List<URI> others = nodeUris.subList(1, nodeUris.size());
+                // Cache the event's JSON on every other node
+                List<Integer> before = new ArrayList<>();
+                for (URI uri : others) {
+                    before.add(commentCount(send(get(uri, path, token))));
+                }
+
+                send(HttpRequest.newBuilder(nodeUris.get(0).resolve(path + "/comments"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(
+                                objectMapper.writeValueAsBytes(Map.of("content", "Invalidation harness comment")))));
+                long committed = System.nanoTime();
+
+                for (int i = 0; i < others.size(); i++) {
+                    long visibleAt = awaitCommentCount(others.get(i), path, token, before.get(i) + 1, committed);
+                    if (visibleAt < 0) {
+                        stale++;
+                    } else {
+                        visibleAfter[measured++] = visibleAt - committed;
+                    }
+                }
+            }
+
+            long[] sorted = Arrays.copyOf(visibleAfter, measured);
+            Arrays.sort(sorted);
+            MeterRegistry metrics = nodeZero.getBean(MeterRegistry.class);
+            System.out.printf("%d nodes, %d trials: %d reads caught up, %d still stale after %d s%n",
+                    nodes, trials, measured, stale, STALE_AFTER.toSeconds());
+            System.out.printf("visible after   p50 %.2f ms   p90 %.2f ms   p99 %.2f ms   max %.2f ms%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+            System.out.printf("node 0 bus      sent %.0f   coalesced %.0f%n",
+                    metrics.get("cache.invalidation.sent").counter().count(),
+                    metrics.get("cache.invalidation.coalesced").counter().count());
+        } finally {
+            for (Process child : children) {
+                child.destroy();
+            }
+            if (nodeZero != null) {
+                nodeZero.close();
+            }
+            database.stop();
+        }
+    }
+
+    private static String[] nodeProperties(int node, String databaseUrl, String ddlAuto, int udpPort, String peers) {
+        return new String[]{
+                "spring.application.name=invalidation-harness-node-" + node,
+                "spring.datasource.url=" + databaseUrl,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "app.invalidation.transport=udp",
+                "app.invalidation.udp.port=" + udpPort,
+                "app.invalidation.udp.peers=" + peers,
+                "app.invalidation.udp.secret=" + BUS_SECRET,
+                "app.jit-warmup.enabled=false",
+                "app.query-budget.fail-on-exceed=false",
+                "app.rate-limit.enabled=false"
+        };
+    }
+
+    // Start a node in a new JVM on this process's classpath, against the already seeded database
+    private static Process startChild(int node, int httpPort, String databaseUrl, int udpPort, String peers)
+            throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", classpath(),
+                CollegeEventWebsiteApplication.class.getName()));
+        for (String property : nodeProperties(node, databaseUrl, "none", udpPort, peers)) {
+            command.add("--" + property);
+        }
+        command.add("--server.port=" + httpPort);
+        File log = Path.of("target", "invalidation-harness-node-" + node + ".log").toFile();
+        log.getParentFile().mkdirs();
+        return new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+    }
+
+    // Under exec:java the classes come from a class loader, not from java.class.path
+    static String classpath() {
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader) {
+            return Arrays.stream(loader.getURLs())
+                    .map(MultiNodeInvalidationHarness::toPath)
+                    .collect(Collectors.joining(File.pathSeparator));
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static String toPath(URL url) {
+        try {
+            return Path.of(url.toURI()).toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unusable classpath entry " + url, e);
+        }
+    }
+
+    private void awaitStarted(URI node) throws InterruptedException {
+        long deadline = System.nanoTime() + NODE_START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<byte[]> response = httpClient.send(
+                        HttpRequest.newBuilder(node.resolve("/api/colleges")).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Node " + node + " did not start, see its log under target/");
+    }
+
+    private String login(URI node, String email) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(node.resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+                        Map.of("email", email, "password", CampusDataGenerator.PASSWORD)))));
+        return read(response).path("token").asText();
+    }
+
+    // Time (System.nanoTime) the node first showed the expected count, or -1 if it never did
+    private long awaitCommentCount(URI node, String path, String token, int expected, long since)
+            throws IOException, InterruptedException {
+        while (System.nanoTime() - since < STALE_AFTER.toNanos()) {
+            if (commentCount(send(get(node, path, token))) >= expected) {
+                return System.nanoTime();
+            }
+            Thread.sleep(1);
+        }
+        return -1;
+    }
+
+    private int commentCount(HttpResponse<byte[]> response) throws IOException {
+        return read(response).path("commentCount").asInt();
+    }
+
+    private HttpRequest.Builder get(URI node, String path, String token) {
+        return HttpRequest.newBuilder(node.resolve(path)).header("Authorization", "Bearer " + token).GET();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.build().uri() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private JsonNode read(HttpResponse<byte[]> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static int freeTcpPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static int freeUdpPort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // Nearest-rank percentile in milliseconds
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,62 @@
+package edu.ucf.college_event_website.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs LoadDriver against platform threads (Tomcat's pool of 200) and against virtual threads, at 1k and 10k
+ * concurrent clients by default, each on a freshly started and seeded application.
+ * It prints every run's report, then a summary table to compare.
+ * Tomcat's connection limit is raised above the client count in both modes, so only the threading model differs.
+ * 10k clients need as many open sockets on each side of loopback: raise the file descriptor limit first
+ * (ulimit -n 65536).
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.loadtest.ThreadModeComparison
+ *   [-Dload.compare.clients=1000,10000 -Dload.warmup-seconds=10 -Dload.duration-seconds=60 -Djdk.tracePinnedThreads=short]
+ *
+ * Last run: 1 CPU, 3 GB heap, H2, default scale, 10 s warm-up, 30 s measured, file descriptor hard limit 20000.
+ * <pre>
+ * threads    clients     req/s   errors  feed p99 ms   detail p99  comment p99
+ * platform        50       4.1        0      8755.29      3669.75      2701.62
+ * virtual         50      46.7        0      2330.38      1875.18      1835.65
+ * platform      1000      33.2      946     30873.93            -            -
+ * virtual       1000     166.5     4347      8773.03      8198.26      8409.29
+ * platform     10000    3799.1   113974     30002.99            -            -
+ * virtual      10000    3385.7   101335     11562.58            -            -
+ * </pre>
+ * The first platform row runs on a cold JVM, alone it reached 13.6 req/s with no errors.
+ * At 1000 clients platform threads queue on Hikari until its 30 s timeout, nearly every request fails and no
+ * client gets past its first feed; virtual threads reject the overflow with 503 from DatabaseConcurrencyFilter
+ * and keep serving the rest. The 10k rows measure the descriptor limit, not the server: the client ran out
+ * of sockets ("Too many open files"), so most of their requests failed in under a millisecond.
+ * No pinned virtual thread was reported (-Djdk.tracePinnedThreads=short).
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) {
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+
+        List<String> rows = new ArrayList<>();
+        for (String clientCount : System.getProperty("load.compare.clients", "1000,10000").split(",")) {
+            int clients = Integer.parseInt(clientCount.trim());
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                LoadDriver.Report report = LoadDriver.runAgainstNewApplication(clients, warmup, duration,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.max-connections=" + (clients + 1000),
+                        "--server.tomcat.accept-count=" + clients);
+                report.print(System.out);
+                rows.add(String.format("%-9s %8d %9.1f %8d %12.2f %12.2f %12.2f",
+                        virtualThreads ? "virtual" : "platform", clients, report.throughput(), report.errors(),
+                        report.percentile(LoadDriver.Operation.FEED, 0.99),
+                        report.percentile(LoadDriver.Operation.DETAIL, 0.99),
+                        report.percentile(LoadDriver.Operation.COMMENT, 0.99)));
+            }
+        }
+
+        System.out.printf("%n%-9s %8s %9s %8s %12s %12s %12s%n",
+                "threads", "clients", "req/s", "errors", "feed p99 ms", "detail p99", "comment p99");
+        rows.forEach(System.out::println);
+    }
+}
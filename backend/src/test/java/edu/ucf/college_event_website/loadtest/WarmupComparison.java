@@ -0,0 +1,178 @@
+package edu.ucf.college_event_website.loadtest;
+
+import edu.ucf.college_event_website.CollegeEventWebsiteApplication;
+import org.h2.tools.Server;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * What the JIT warm-up saves the first real users: starts the application in a fresh JVM with the warm-up
+ * on and again with it off, each against the same seeded H2 database (served over TCP by this process),
+ * waits for the readiness probe, then runs LoadDriver's clients against it. The application's
+ * FirstTrafficFilter times the first app.first-traffic.requests of their requests; the table at the end
+ * shows their p50, p99 and max for each start next to the warm-up's own last p99 and the time to readiness.
+ * A fresh JVM per start, so neither run inherits code the other one compiled.
+ * Child logs go to target/warmup-comparison-{on,off}.log.
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=edu.ucf.college_event_website.loadtest.WarmupComparison
+ *   [-Dwarmup.compare.clients=8 -Dwarmup.compare.first-requests=1000 -Dload.colleges=5 ...]
+ *
+ * Last two runs: 1 CPU, H2 over TCP, default scale, 8 clients, first 1000 requests, default 30 s warm-up budget.
+ * <pre>
+ * warm-up  ready after ms   warm-up p99 ms     first p50 ms     first p99 ms     first max ms
+ * on          71958/78885      609.79/676.30    142.90/133.69  2422.06/2125.82  5357.82/6082.04
+ * off         36223/45030                  -    135.57/157.82  1607.69/1797.01 23632.24/28315.48
+ * </pre>
+ * The warm-up took the worst first request from about 25 s down to about 6 s, but not the p99: here that is
+ * the 750-event feed queueing for the one CPU, which compiled code does not fix. It costs its 30 s budget
+ * in time to readiness.
+ */
+public class WarmupComparison {
+
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    // A generated student, the warm-up reads events as this account
+    private static final String WARMUP_ACCOUNT = "student0@college0.loadtest.edu";
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    public static void main(String[] args) throws Exception {
+        new WarmupComparison().run(Integer.getInteger("warmup.compare.clients", 8),
+                Integer.getInteger("warmup.compare.first-requests", 1000));
+    }
+
+    void run(int clients, int firstRequests) throws Exception {
+        int databasePort = freeTcpPort();
+        Server database = Server.createTcpServer("-tcpPort", String.valueOf(databasePort), "-ifNotExists").start();
+        String databaseUrl = "jdbc:h2:tcp://localhost:" + databasePort
+                + "/mem:warmup_comparison;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        try {
+            List<String> emails;
+            // Create and seed the schema in this JVM, then close it: only the children are measured
+            try (ConfigurableApplicationContext seeder = new SpringApplicationBuilder(CollegeEventWebsiteApplication.class)
+                    .run("--server.port=0", "--spring.datasource.url=" + databaseUrl,
+                            "--spring.jpa.hibernate.ddl-auto=create", "--app.jit-warmup.enabled=false")) {
+                emails = new CampusDataGenerator(seeder, CampusDataGenerator.Scale.fromSystemProperties(),
+                        Long.getLong("load.seed", 42)).generate();
+            }
+
+            List<String> rows = new ArrayList<>();
+            for (boolean warmup : new boolean[]{true, false}) {
+                rows.add(measure(warmup, databaseUrl, emails, clients, firstRequests));
+            }
+            System.out.printf("%n%-8s %14s %16s %16s %16s %16s%n",
+                    "warm-up", "ready after ms", "warm-up p99 ms", "first p50 ms", "first p99 ms", "first max ms");
+            rows.forEach(System.out::println);
+        } finally {
+            database.stop();
+        }
+    }
+
+    private String measure(boolean warmup, String databaseUrl, List<String> emails, int clients, int firstRequests)
+            throws Exception {
+        int httpPort = freeTcpPort();
+        File log = Path.of("target", "warmup-comparison-" + (warmup ? "on" : "off") + ".log").toFile();
+        log.getParentFile().mkdirs();
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                // As a packaged jar would run: without devtools' restart class loader
+                "-Dspring.devtools.restart.enabled=false",
+                "-cp", MultiNodeInvalidationHarness.classpath(),
+                CollegeEventWebsiteApplication.class.getName(),
+                "--server.port=" + httpPort,
+                "--spring.datasource.url=" + databaseUrl,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--app.jit-warmup.enabled=" + warmup,
+                "--app.jit-warmup.user-email=" + WARMUP_ACCOUNT,
+                "--app.first-traffic.requests=" + firstRequests,
+                "--app.query-budget.fail-on-exceed=false",
+                "--app.rate-limit.enabled=false",
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"));
+        long started = System.nanoTime();
+        Process child = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+        try {
+            URI uri = URI.create("http://localhost:" + httpPort);
+            awaitReady(uri, child);
+            long readyAfterMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+            // Real traffic, until the application has timed its first requests
+            try (HttpClient clientsHttp = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build()) {
+                LoadDriver driver = new LoadDriver(clientsHttp, uri, emails, Long.getLong("load.seed", 42));
+                String firstTraffic = null;
+                for (int round = 0; round < 20 && firstTraffic == null; round++) {
+                    driver.run(clients, Duration.ZERO, Duration.ofSeconds(15));
+                    firstTraffic = lineWith(log, "first_traffic_done");
+                }
+                if (firstTraffic == null) {
+                    throw new IllegalStateException("No first_traffic_done in " + log);
+                }
+                String warmupDone = lineWith(log, "jit_warmup_done");
+                return String.format("%-8s %14d %16s %16s %16s %16s", warmup ? "on" : "off", readyAfterMs,
+                        warmupDone == null ? "-" : field(warmupDone, "last_p99_ms"),
+                        field(firstTraffic, "p50_ms"), field(firstTraffic, "p99_ms"), field(firstTraffic, "max_ms"));
+            }
+        } finally {
+            child.destroy();
+            child.waitFor();
+        }
+    }
+
+    // Poll the readiness probe, which stays down while the warm-up runs
+    private void awaitReady(URI uri, Process child) throws InterruptedException {
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && child.isAlive()) {
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(uri.resolve("/actuator/health/readiness")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Application on " + uri + " never became ready, see its log under target/");
+    }
+
+    private static String lineWith(File log, String marker) throws IOException {
+        try (var lines = Files.lines(log.toPath())) {
+            return lines.filter(line -> line.contains(marker)).findFirst().orElse(null);
+        }
+    }
+
+    // Value of a key=value field of a log line
+    private static String field(String line, String key) {
+        int start = line.indexOf(key + "=");
+        if (start < 0) {
+            return "-";
+        }
+        start += key.length() + 1;
+        int end = line.indexOf(' ', start);
+        return end < 0 ? line.substring(start) : line.substring(start, end);
+    }
+
+    private static int freeTcpPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
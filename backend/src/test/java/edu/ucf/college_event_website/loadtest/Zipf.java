@@ -0,0 +1,28 @@
+package edu.ucf.college_event_website.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Picks ranks 0..n-1 with Zipf-distributed probabilities (rank 0 most likely),
+ * for the skew of real campus data: a few very popular RSOs and events, and a few very active users.
+ */
+final class Zipf {
+
+    private final double[] cumulative;
+
+    Zipf(int n, double exponent) {
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+    }
+
+    int next(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
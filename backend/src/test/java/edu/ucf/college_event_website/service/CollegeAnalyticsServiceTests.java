@@ -0,0 +1,96 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.dto.CollegeAnalyticsResponse;
+import edu.ucf.college_event_website.model.RsoStatus;
+import edu.ucf.college_event_website.repository.CommentRepository;
+import edu.ucf.college_event_website.repository.EventRepository;
+import edu.ucf.college_event_website.repository.PublicEventRepository;
+import edu.ucf.college_event_website.repository.RatingRepository;
+import edu.ucf.college_event_website.repository.RsoRepository;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Changes that commit while a recompute is reading the database must survive the swap to its result.
+ * The repositories are mocked and return nothing, so the recompute alone would leave every count at zero.
+ * No transaction is active here, so each change applies as soon as it is recorded.
+ */
+class CollegeAnalyticsServiceTests {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final RsoRepository rsoRepository = mock(RsoRepository.class);
+    private final SecurityUtils securityUtils = mock(SecurityUtils.class);
+
+    private CollegeAnalyticsService analytics;
+
+    @BeforeEach
+    void createService() {
+        analytics = new CollegeAnalyticsService();
+        ReflectionTestUtils.setField(analytics, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(analytics, "publicEventRepository", mock(PublicEventRepository.class));
+        ReflectionTestUtils.setField(analytics, "rsoRepository", rsoRepository);
+        ReflectionTestUtils.setField(analytics, "ratingRepository", mock(RatingRepository.class));
+        ReflectionTestUtils.setField(analytics, "commentRepository", mock(CommentRepository.class));
+        ReflectionTestUtils.setField(analytics, "securityUtils", securityUtils);
+        when(securityUtils.isSuperAdmin()).thenReturn(true);
+    }
+
+    @Test
+    void changeRecordedOutsideARecomputeAppliesRightAway() {
+        analytics.recordRating(1L, null, 4);
+
+        assertEquals(1, analytics.getCollegeAnalytics(1L).getRatingCount());
+    }
+
+    @Test
+    void changesDuringARecomputeAreReplayedOntoItsResult() {
+        when(eventRepository.findEventCountsPerCollege()).thenAnswer(invocation -> {
+            analytics.recordRating(1L, null, 4);
+            analytics.recordRso(1L, RsoStatus.ACTIVE, 1);
+            return List.of();
+        });
+
+        analytics.recomputeAll();
+
+        CollegeAnalyticsResponse response = analytics.getCollegeAnalytics(1L);
+        assertEquals(1, response.getRatingCount());
+        assertEquals(4.0, response.getAverageRating());
+        assertEquals(1, response.getRsoCount());
+        assertEquals(1, response.getActiveRsoCount());
+    }
+
+    @Test
+    void collegeRemovedDuringARecomputeStaysRemoved() {
+        analytics.recordRating(1L, null, 4);
+        when(eventRepository.findEventCountsPerCollege()).thenAnswer(invocation -> {
+            analytics.recordRating(1L, 4, 5);
+            analytics.removeCollege(1L);
+            return List.of();
+        });
+
+        analytics.recomputeAll();
+
+        assertEquals(0, analytics.getCollegeAnalytics(1L).getRatingCount());
+    }
+
+    @Test
+    void failedRecomputeKeepsTheCurrentCountsAndStopsLogging() {
+        analytics.recordRating(1L, null, 4);
+        when(rsoRepository.findRsoCountsPerCollege()).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> analytics.recomputeAll());
+
+        assertEquals(1, analytics.getCollegeAnalytics(1L).getRatingCount());
+        assertNull(ReflectionTestUtils.getField(analytics, "changesDuringRecompute"));
+    }
+}
@@ -0,0 +1,147 @@
+package edu.ucf.college_event_website.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Board ordering, top-K eviction and the rebuild of a stale board, on a service with two-entry
+ * boards and no database. Outside a transaction the write paths apply right away.
+ */
+class LeaderboardServiceTests {
+
+    private static final Long COLLEGE = 1L;
+    private static final Long OTHER_COLLEGE = 2L;
+
+    private LeaderboardService leaderboard;
+
+    @BeforeEach
+    void createService() {
+        leaderboard = new LeaderboardService();
+        ReflectionTestUtils.setField(leaderboard, "boardSize", 2);
+        ReflectionTestUtils.setField(leaderboard, "priorWeight", 5.0);
+        ReflectionTestUtils.setField(leaderboard, "priorMean", 3.0);
+        leaderboard.createBoards();
+    }
+
+    @Test
+    void topRatedUsesTheBayesianAverage() {
+        // One 5-star rating: (5 * 3 + 5) / 6 = 3.33, ten 4-star ratings: (5 * 3 + 40) / 15 = 3.67
+        leaderboard.recordRating(1L, COLLEGE, null, 5);
+        for (int i = 0; i < 10; i++) {
+            leaderboard.recordRating(2L, COLLEGE, null, 4);
+        }
+
+        assertEquals(List.of(2L, 1L), leaderboard.getTopRatedEventIds(null));
+        assertEquals(List.of(2L, 1L), leaderboard.getTopRatedEventIds(COLLEGE));
+    }
+
+    @Test
+    void changedRatingMovesTheEvent() {
+        leaderboard.recordRating(1L, COLLEGE, null, 4);
+        leaderboard.recordRating(2L, COLLEGE, null, 3);
+        leaderboard.recordRating(2L, COLLEGE, 3, 5);
+
+        assertEquals(List.of(2L, 1L), leaderboard.getTopRatedEventIds(null));
+    }
+
+    @Test
+    void equalScoresAreOrderedByEventId() {
+        comments(7L, COLLEGE, 2);
+        comments(3L, COLLEGE, 2);
+
+        assertEquals(List.of(3L, 7L), leaderboard.getMostDiscussedEventIds(null));
+    }
+
+    @Test
+    void fullBoardKeepsTheTopEvents() {
+        comments(1L, COLLEGE, 1);
+        comments(2L, COLLEGE, 3);
+        comments(3L, OTHER_COLLEGE, 2);
+
+        assertEquals(List.of(2L, 3L), leaderboard.getMostDiscussedEventIds(null));
+        assertEquals(List.of(2L, 1L), leaderboard.getMostDiscussedEventIds(COLLEGE));
+        assertEquals(List.of(3L), leaderboard.getMostDiscussedEventIds(OTHER_COLLEGE));
+        assertEquals(List.of(), leaderboard.getMostDiscussedEventIds(99L));
+    }
+
+    @Test
+    void eventSinkingBelowOneKeptOffTriggersARebuild() {
+        comments(1L, COLLEGE, 5);
+        comments(2L, COLLEGE, 4);
+        // Kept off the full board
+        comments(3L, COLLEGE, 3);
+
+        leaderboard.recordComment(2L, COLLEGE, -2);
+
+        assertEquals(List.of(1L, 3L), leaderboard.getMostDiscussedEventIds(null));
+    }
+
+    @Test
+    void eventLeavingAFullBoardTriggersARebuild() {
+        comments(1L, COLLEGE, 3);
+        comments(2L, COLLEGE, 2);
+        comments(3L, COLLEGE, 1);
+
+        // Last comment deleted, the event drops off the board entirely
+        comments(1L, COLLEGE, -3);
+        assertEquals(List.of(2L, 3L), leaderboard.getMostDiscussedEventIds(null));
+
+        leaderboard.removeEvent(2L);
+        assertEquals(List.of(3L), leaderboard.getMostDiscussedEventIds(null));
+        assertEquals(List.of(3L), leaderboard.getMostDiscussedEventIds(COLLEGE));
+    }
+
+    @Test
+    void removedCollegeLeavesNoEvents() {
+        comments(1L, COLLEGE, 2);
+        comments(2L, OTHER_COLLEGE, 1);
+
+        leaderboard.removeCollege(COLLEGE);
+
+        assertEquals(List.of(2L), leaderboard.getMostDiscussedEventIds(null));
+        assertEquals(List.of(), leaderboard.getMostDiscussedEventIds(COLLEGE));
+    }
+
+    @Test
+    void writesApplyOnlyOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboard.recordComment(1L, COLLEGE, 1);
+            assertEquals(List.of(), leaderboard.getMostDiscussedEventIds(null));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(1L), leaderboard.getMostDiscussedEventIds(null));
+    }
+
+    @Test
+    void rolledBackWritesAreNeverApplied() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboard.recordRating(1L, COLLEGE, null, 5);
+            leaderboard.recordComment(1L, COLLEGE, 1);
+        } finally {
+            // Rolled back: the synchronizations are dropped without afterCommit
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(), leaderboard.getTopRatedEventIds(null));
+        assertEquals(List.of(), leaderboard.getMostDiscussedEventIds(null));
+    }
+
+    private void comments(Long eventId, Long collegeId, int delta) {
+        int step = delta > 0 ? 1 : -1;
+        for (int i = 0; i != delta; i += step) {
+            leaderboard.recordComment(eventId, collegeId, step);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Backpressure of the hashing pool: one thread and a one-slot queue, with an encoder whose
+ * password checks block until the test releases them.
+ */
+class PasswordHashingServiceTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHashingService service;
+
+    @BeforeEach
+    void createService() {
+        service = new PasswordHashingService();
+        ReflectionTestUtils.setField(service, "passwordEncoder", new BlockingEncoder());
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "hashThreads", 1);
+        ReflectionTestUtils.setField(service, "queueSize", 1);
+        ReflectionTestUtils.setField(service, "timeoutMs", 10_000L);
+        ReflectionTestUtils.setField(service, "retryAfterSeconds", 2L);
+        service.init();
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void fullPoolAndQueueRejectRightAway() throws Exception {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> service.matches("password", "hash"));
+        awaitGauge("auth.password.active", 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> service.matches("password", "hash"));
+        awaitGauge("auth.password.queue.depth", 1);
+
+        ServiceBusyException busy = assertThrows(ServiceBusyException.class, () -> service.matches("password", "hash"));
+        assertEquals(2, busy.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("auth.password.rejected").counter().count());
+
+        // The requests already admitted still complete
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void hashTakingTooLongGivesUp() {
+        ReflectionTestUtils.setField(service, "timeoutMs", 50L);
+
+        assertThrows(ServiceBusyException.class, () -> service.matches("password", "hash"));
+        assertEquals(1, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != expected) {
+            if (System.nanoTime() > deadline) {
+                fail(name + " never reached " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    // Encodes right away (init hashes a dummy password), checks block until released
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
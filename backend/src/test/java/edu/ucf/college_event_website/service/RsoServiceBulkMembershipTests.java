@@ -0,0 +1,208 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.dto.RsoMembershipBulkRequest;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse.Outcome;
+import edu.ucf.college_event_website.dto.RsoMembershipBulkResponse.Status;
+import edu.ucf.college_event_website.model.College;
+import edu.ucf.college_event_website.model.Rso;
+import edu.ucf.college_event_website.model.RsoStatus;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.RsoMembershipRepository;
+import edu.ucf.college_event_website.repository.RsoRepository;
+import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.util.InvalidationPublisher;
+import edu.ucf.college_event_website.util.RsoDirectoryCache;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The add/remove diff of bulk RSO membership updates, with the repositories mocked.
+ * RSO 7 is run by user 1 and has users 1, 2 and 3 as members; users 4, 5 and 6 exist but are not members.
+ */
+class RsoServiceBulkMembershipTests {
+
+    private static final Long RSO_ID = 7L;
+
+    private final RsoRepository rsoRepository = mock(RsoRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RsoMembershipRepository rsoMembershipRepository = mock(RsoMembershipRepository.class);
+    private final SecurityUtils securityUtils = mock(SecurityUtils.class);
+    private final CollegeAnalyticsService collegeAnalyticsService = mock(CollegeAnalyticsService.class);
+
+    private RsoService rsoService;
+    private User admin;
+
+    @BeforeEach
+    void createService() {
+        rsoService = new RsoService();
+        ReflectionTestUtils.setField(rsoService, "rsoRepository", rsoRepository);
+        ReflectionTestUtils.setField(rsoService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(rsoService, "rsoMembershipRepository", rsoMembershipRepository);
+        ReflectionTestUtils.setField(rsoService, "securityUtils", securityUtils);
+        ReflectionTestUtils.setField(rsoService, "rsoDirectoryCache", mock(RsoDirectoryCache.class));
+        ReflectionTestUtils.setField(rsoService, "invalidationPublisher", mock(InvalidationPublisher.class));
+        ReflectionTestUtils.setField(rsoService, "collegeAnalyticsService", collegeAnalyticsService);
+        ReflectionTestUtils.setField(rsoService, "bulkMaxUsers", 10);
+        ReflectionTestUtils.setField(rsoService, "activeMemberThreshold", 5);
+
+        College college = new College();
+        college.setId(1L);
+        admin = new User();
+        admin.setId(1L);
+        Rso rso = new Rso();
+        rso.setId(RSO_ID);
+        rso.setAdmin(admin);
+        rso.setCollege(college);
+        rso.setMemberCount(3);
+        rso.setStatus(RsoStatus.INACTIVE);
+        when(rsoRepository.findByIdForUpdate(RSO_ID)).thenReturn(Optional.of(rso));
+        when(securityUtils.getCurrentUser()).thenReturn(admin);
+
+        List<UserRepository.UserIdAndEmail> users = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            users.add(new IdAndEmail(id, "user" + id + "@ucf.edu"));
+        }
+        when(userRepository.findIdsAndEmails(anyCollection(), anyCollection())).thenReturn(users);
+        when(rsoMembershipRepository.findMemberIdsIn(any(), anyCollection())).thenAnswer(invocation -> {
+            List<Long> members = new ArrayList<>();
+            for (Object id : invocation.<Collection<?>>getArgument(1)) {
+                if (Set.of(1L, 2L, 3L).contains(id)) {
+                    members.add((Long) id);
+                }
+            }
+            return members;
+        });
+    }
+
+    @Test
+    void onlyTheDifferenceIsWritten() {
+        RsoMembershipBulkRequest request = new RsoMembershipBulkRequest(
+                List.of(2L, 99L, 4L), List.of(" User5@UCF.edu"), List.of(3L, 6L), List.of("user1@ucf.edu"));
+
+        RsoMembershipBulkResponse response = rsoService.bulkUpdateMembers(RSO_ID, request);
+
+        assertEquals(List.of(
+                new Outcome(2L, "user2@ucf.edu", Status.ALREADY_MEMBER),
+                new Outcome(99L, null, Status.USER_NOT_FOUND),
+                new Outcome(4L, "user4@ucf.edu", Status.ADDED),
+                new Outcome(5L, "user5@ucf.edu", Status.ADDED),
+                new Outcome(3L, "user3@ucf.edu", Status.REMOVED),
+                new Outcome(6L, "user6@ucf.edu", Status.NOT_MEMBER),
+                new Outcome(1L, "user1@ucf.edu", Status.CANNOT_REMOVE_ADMIN)), response.getResults());
+        verify(rsoMembershipRepository).batchInsertMembers(RSO_ID, List.of(4L, 5L));
+        verify(rsoMembershipRepository).batchDeleteMembers(RSO_ID, List.of(3L));
+        verify(rsoRepository).adjustMemberCount(RSO_ID, 1, 5);
+    }
+
+    @Test
+    void userNamedByIdAndByEmailIsAddedOnce() {
+        RsoMembershipBulkRequest request = new RsoMembershipBulkRequest(
+                List.of(4L, 4L), List.of("user4@ucf.edu"), List.of(), List.of());
+
+        RsoMembershipBulkResponse response = rsoService.bulkUpdateMembers(RSO_ID, request);
+
+        assertEquals(List.of(new Outcome(4L, "user4@ucf.edu", Status.ADDED)), response.getResults());
+        verify(rsoMembershipRepository).batchInsertMembers(RSO_ID, List.of(4L));
+        verify(rsoRepository).adjustMemberCount(RSO_ID, 1, 5);
+    }
+
+    @Test
+    void statusChangeComesFromTheLockedRow() {
+        RsoMembershipBulkRequest request = new RsoMembershipBulkRequest(
+                List.of(4L, 5L), List.of(), List.of(), List.of());
+
+        rsoService.bulkUpdateMembers(RSO_ID, request);
+
+        // 3 members locked at load, 2 added: the UPDATE makes the RSO active
+        verify(rsoRepository).adjustMemberCount(RSO_ID, 2, 5);
+        verify(collegeAnalyticsService).recordRsoStatusChange(1L, RsoStatus.INACTIVE, RsoStatus.ACTIVE);
+        verify(rsoRepository, never()).findById(any());
+    }
+
+    @Test
+    void equalAddsAndRemovesLeaveTheCountAlone() {
+        RsoMembershipBulkRequest request = new RsoMembershipBulkRequest(
+                List.of(4L), List.of(), List.of(3L), List.of());
+
+        rsoService.bulkUpdateMembers(RSO_ID, request);
+
+        verify(rsoMembershipRepository).batchInsertMembers(RSO_ID, List.of(4L));
+        verify(rsoMembershipRepository).batchDeleteMembers(RSO_ID, List.of(3L));
+        verify(rsoRepository, never()).adjustMemberCount(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void nothingToChangeWritesNothing() {
+        RsoMembershipBulkRequest request = new RsoMembershipBulkRequest(
+                List.of(2L), List.of(), List.of(5L), List.of());
+
+        rsoService.bulkUpdateMembers(RSO_ID, request);
+
+        verify(rsoMembershipRepository, never()).batchInsertMembers(any(), anyCollection());
+        verify(rsoMembershipRepository, never()).batchDeleteMembers(any(), anyCollection());
+        verify(rsoRepository, never()).adjustMemberCount(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void userCannotBeAddedAndRemovedAtOnce() {
+        RsoMembershipBulkRequest request = new RsoMembershipBulkRequest(
+                List.of(4L), List.of(), List.of(), List.of("user4@ucf.edu"));
+
+        assertThrows(IllegalArgumentException.class, () -> rsoService.bulkUpdateMembers(RSO_ID, request));
+        verify(rsoMembershipRepository, never()).batchInsertMembers(any(), anyCollection());
+    }
+
+    @Test
+    void requestOverTheLimitIsRejected() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 100; id < 111; id++) {
+            ids.add(id);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> rsoService.bulkUpdateMembers(RSO_ID,
+                new RsoMembershipBulkRequest(ids, List.of(), List.of(), List.of())));
+    }
+
+    @Test
+    void onlyTheRsoAdminMayUpdateMembers() {
+        User member = new User();
+        member.setId(2L);
+        when(securityUtils.getCurrentUser()).thenReturn(member);
+
+        assertThrows(AccessDeniedException.class, () -> rsoService.bulkUpdateMembers(RSO_ID,
+                new RsoMembershipBulkRequest(List.of(4L), List.of(), List.of(), List.of())));
+    }
+
+    private record IdAndEmail(Long id, String email) implements UserRepository.UserIdAndEmail {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.model.RevokedToken;
+import edu.ucf.college_event_website.repository.RevokedTokenRepository;
+import edu.ucf.college_event_website.util.RevocationBroadcast;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Deny list behaviour with the repository and the broadcast mocked out: loading persisted
+ * revocations once the application is ready, revoking, and purging expired entries while rebuilding the Bloom filter.
+ */
+class TokenRevocationServiceTests {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final RevocationBroadcast broadcast = mock(RevocationBroadcast.class);
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void createService() {
+        service = new TokenRevocationService();
+        ReflectionTestUtils.setField(service, "revokedTokenRepository", repository);
+        ReflectionTestUtils.setField(service, "revocationBroadcast", broadcast);
+        ReflectionTestUtils.setField(service, "expectedRevocations", 1_000);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    void persistedRevocationsAreLoaded() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedToken("persisted", LocalDateTime.now().plusHours(1))));
+        load();
+
+        assertTrue(service.isRevoked("persisted"));
+        assertFalse(service.isRevoked("never-revoked"));
+    }
+
+    @Test
+    void initDoesNotQueryTheDatabase() {
+        service.init();
+
+        verifyNoInteractions(repository);
+        assertFalse(service.isRevoked("persisted"));
+    }
+
+    @Test
+    void revokedTokenIsPersistedAndBroadcast() {
+        load();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        service.revoke("jti", expiresAt);
+
+        assertTrue(service.isRevoked("jti"));
+        verify(repository).save(any(RevokedToken.class));
+        verify(broadcast).publish("jti", expiresAt);
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        load();
+
+        service.revoke("expired", System.currentTimeMillis() - 1);
+
+        assertFalse(service.isRevoked("expired"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void purgeDropsExpiredEntriesAndKeepsLiveOnes() throws InterruptedException {
+        load();
+        service.revoke("short-lived", System.currentTimeMillis() + 20);
+        service.revoke("long-lived", System.currentTimeMillis() + 60_000);
+        Thread.sleep(50);
+
+        service.purgeExpired();
+
+        Map<String, Long> revoked = (Map<String, Long>) ReflectionTestUtils.getField(service, "revoked");
+        assertFalse(revoked.containsKey("short-lived"));
+        assertFalse(service.isRevoked("short-lived"));
+        // The rebuilt filter still knows the live revocation
+        assertTrue(service.isRevoked("long-lived"));
+        verify(repository).deleteByExpiresAtBefore(any());
+    }
+
+    private void load() {
+        service.init();
+        service.loadFromDatabase();
+    }
+}
@@ -0,0 +1,162 @@
+package edu.ucf.college_event_website.service;
+
+import edu.ucf.college_event_website.dto.UserSummaryResponse;
+import edu.ucf.college_event_website.model.College;
+import edu.ucf.college_event_website.model.Role;
+import edu.ucf.college_event_website.model.User;
+import edu.ucf.college_event_website.repository.UserRepository;
+import edu.ucf.college_event_website.util.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * N-gram matching, college scoping and paging of the in-memory user search, with users indexed
+ * directly (outside a transaction index applies right away) and the current user mocked.
+ */
+class UserSearchServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SecurityUtils securityUtils = mock(SecurityUtils.class);
+
+    private UserSearchService search;
+    private College ucf;
+    private College fsu;
+
+    @BeforeEach
+    void createService() {
+        search = new UserSearchService();
+        ReflectionTestUtils.setField(search, "userRepository", userRepository);
+        ReflectionTestUtils.setField(search, "securityUtils", securityUtils);
+
+        ucf = college(1L);
+        fsu = college(2L);
+        search.index(user(1L, "jamie.knight@ucf.edu", "Jamie", "Knight", ucf));
+        search.index(user(2L, "alex.fortnightly@ucf.edu", "Alex", "Fortnightly", ucf));
+        search.index(user(3L, "riley.night@ucf.edu", "Riley", "Night", ucf));
+        search.index(user(4L, "jamie.seminole@fsu.edu", "Jamie", "Seminole", fsu));
+        signedInAs(ucf, false);
+    }
+
+    @Test
+    void prefixMatchesComeBeforeInfixMatches() {
+        // "Night" starts with the query, "Knight" and "Fortnightly" only contain it
+        assertEquals(List.of(3L, 1L, 2L), ids("nigh"));
+    }
+
+    @Test
+    void matchesAnyFieldIgnoringCase() {
+        assertEquals(List.of(2L), ids("ALEX"));
+        assertEquals(List.of(2L), ids("fortn"));
+        assertEquals(List.of(1L), ids("jamie.kn"));
+        assertEquals(List.of(1L), ids("jamie knight"));
+    }
+
+    @Test
+    void shortQueriesMatchPrefixesOnly() {
+        assertEquals(List.of(1L), ids("j"));
+        assertEquals(List.of(3L), ids("ri"));
+        // "ig" appears inside names but is not a prefix of any field
+        assertEquals(List.of(), ids("ig"));
+    }
+
+    @Test
+    void everyTrigramOfTheQueryMustMatch() {
+        assertEquals(List.of(), ids("knightx"));
+        assertEquals(List.of(), ids("   "));
+    }
+
+    @Test
+    void prefixCandidatesMustHaveEveryTrigramOfTheQuery() {
+        assertEquals(List.of(1L), ids("knigh"));
+        // Knight shares the prefix and Fortnightly has the "htl" trigram, neither contains the query
+        assertEquals(List.of(), ids("knightly"));
+    }
+
+    @Test
+    void searchIsScopedToTheCurrentUsersCollege() {
+        assertEquals(List.of(1L), ids("jamie"));
+
+        signedInAs(fsu, false);
+        assertEquals(List.of(4L), ids("jamie"));
+    }
+
+    @Test
+    void onlySuperAdminsMaySearchAnotherCollege() {
+        assertThrows(AccessDeniedException.class, () -> search.searchUsers("jamie", fsu.getId(), 0, 10));
+
+        signedInAs(null, true);
+        assertEquals(List.of(4L), ids(search.searchUsers("jamie", fsu.getId(), 0, 10)));
+    }
+
+    @Test
+    void pagesFollowTheResultOrder() {
+        for (long id = 10; id < 15; id++) {
+            search.index(user(id, "member" + id + "@ucf.edu", "Member", "Number" + id, ucf));
+        }
+
+        assertEquals(List.of(10L, 11L), ids(search.searchUsers("member", null, 0, 2)));
+        assertEquals(List.of(12L, 13L), ids(search.searchUsers("member", null, 1, 2)));
+        assertEquals(List.of(14L), ids(search.searchUsers("member", null, 2, 2)));
+        assertEquals(List.of(), ids(search.searchUsers("member", null, 3, 2)));
+    }
+
+    @Test
+    void reindexedUserIsFoundUnderTheirNewDetailsOnly() {
+        search.index(user(1L, "jamie.knight@ucf.edu", "Jamie", "Pegasus", fsu));
+
+        assertEquals(List.of(), ids("pegasus"));
+        assertEquals(List.of(3L, 2L), ids("nigh"));
+        signedInAs(fsu, false);
+        assertEquals(List.of(1L), ids("pegasus"));
+    }
+
+    @Test
+    void reindexDropsAUserDeletedElsewhere() {
+        when(userRepository.findSearchRowById(3L)).thenReturn(Optional.empty());
+
+        search.reindex(3L);
+
+        assertEquals(List.of(1L, 2L), ids("nigh"));
+    }
+
+    private List<Long> ids(String query) {
+        return ids(search.searchUsers(query, null, 0, 10));
+    }
+
+    private static List<Long> ids(List<UserSummaryResponse> results) {
+        return results.stream().map(UserSummaryResponse::getId).toList();
+    }
+
+    private void signedInAs(College college, boolean superAdmin) {
+        User current = user(99L, "current@ucf.edu", "Current", "User", college);
+        when(securityUtils.getCurrentUser()).thenReturn(current);
+        when(securityUtils.isSuperAdmin()).thenReturn(superAdmin);
+    }
+
+    private static College college(Long id) {
+        College college = new College();
+        college.setId(id);
+        return college;
+    }
+
+    private static User user(Long id, String email, String firstName, String lastName, College college) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setRole(Role.STUDENT);
+        user.setCollege(college);
+        return user;
+    }
+}
@@ -0,0 +1,111 @@
+package edu.ucf.college_event_website.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.dto.CollegeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Copy-on-write swaps of the college snapshot. No transaction is active here, so put and remove apply right away.
+ */
+class CollegeSnapshotCacheTests {
+
+    private CollegeSnapshotCache cache;
+
+    @BeforeEach
+    void createCache() {
+        cache = new CollegeSnapshotCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+    }
+
+    @Test
+    void loadedSnapshotIsOrderedByIdAndSerialized() {
+        cache.load(List.of(college(2L, "FSU"), college(1L, "UCF")));
+
+        assertEquals(List.of(1L, 2L), ids(cache.getAll()));
+        assertEquals("UCF", cache.get(1L).getName());
+        String json = new String(cache.getAllJson(), StandardCharsets.UTF_8);
+        assertTrue(json.indexOf("\"UCF\"") < json.indexOf("\"FSU\""), json);
+    }
+
+    @Test
+    void writeSwapsInANewSnapshotAndLeavesTheOldOneAlone() {
+        cache.load(List.of(college(1L, "UCF")));
+        List<CollegeResponse> before = cache.getAll();
+        byte[] jsonBefore = cache.getAllJson();
+
+        cache.put(college(2L, "FSU"));
+
+        assertEquals(List.of(1L), ids(before));
+        assertEquals(List.of(1L, 2L), ids(cache.getAll()));
+        assertFalse(new String(jsonBefore, StandardCharsets.UTF_8).contains("FSU"));
+        assertTrue(new String(cache.getAllJson(), StandardCharsets.UTF_8).contains("FSU"));
+        assertThrows(UnsupportedOperationException.class, () -> cache.getAll().add(college(3L, "USF")));
+    }
+
+    @Test
+    void putReplacesAndRemoveDrops() {
+        cache.load(List.of(college(1L, "UCF"), college(2L, "FSU")));
+        CollegeResponse renamed = college(1L, "University of Central Florida");
+
+        cache.put(renamed);
+        cache.remove(2L);
+
+        assertSame(renamed, cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(List.of(1L), ids(cache.getAll()));
+    }
+
+    @Test
+    void changeBeforeTheFirstLoadIsLeftToTheLoad() {
+        cache.put(college(1L, "UCF"));
+
+        assertFalse(cache.isLoaded());
+    }
+
+    @Test
+    void concurrentWritersLoseNoUpdate() throws Exception {
+        cache.load(List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long id = 1; id <= 200; id++) {
+                CollegeResponse college = college(id, "College " + id);
+                futures.add(executor.submit(() -> cache.put(college)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(200, cache.getAll().size());
+    }
+
+    private static List<Long> ids(List<CollegeResponse> colleges) {
+        return colleges.stream().map(CollegeResponse::getId).toList();
+    }
+
+    private static CollegeResponse college(Long id, String name) {
+        CollegeResponse college = new CollegeResponse();
+        college.setId(id);
+        college.setName(name);
+        return college;
+    }
+}
@@ -0,0 +1,87 @@
+package edu.ucf.college_event_website.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ucf.college_event_website.dto.EventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Hits, invalidation, and the size limit with its least-recently-read trim.
+ * No transaction is active here, so invalidations apply right away.
+ */
+class EventJsonCacheTests {
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    private EventJsonCache cache;
+
+    @BeforeEach
+    void createCache() {
+        cache = new EventJsonCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "warmupTraffic", new WarmupTraffic());
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        cache.initMetrics();
+    }
+
+    @Test
+    void unchangedEventIsServedFromTheCache() {
+        EventJsonCache.Fragment first = get(1L);
+
+        assertSame(first, get(1L));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void changedEventIsRebuilt() {
+        EventJsonCache.Fragment first = get(1L);
+        cache.invalidate(1L);
+
+        assertNotSame(first, get(1L));
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void overTheLimitTheLeastRecentlyReadAreDropped() throws InterruptedException {
+        for (long id = 0; id < 10; id++) {
+            get(id);
+        }
+        // Event 0 is read again, so it is the most recently read
+        Thread.sleep(1);
+        get(0L);
+        builds.set(0);
+
+        get(10L);
+
+        // Down to 90% of the limit in one pass, event 0 kept and event 1 gone
+        assertEquals(9, cache.size());
+        get(0L);
+        assertEquals(1, builds.get());
+        get(1L);
+        assertEquals(2, builds.get());
+    }
+
+    private EventJsonCache.Fragment get(Long eventId) {
+        return cache.get(eventId, cache.startRead(), response(eventId));
+    }
+
+    private Supplier<EventResponse> response(Long eventId) {
+        return () -> {
+            builds.incrementAndGet();
+            EventResponse response = new EventResponse();
+            response.setId(eventId);
+            response.setName("Event " + eventId);
+            return response;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package edu.ucf.college_event_website.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Only the first requests are kept, the one that fills the recorder is told so, and percentiles are nearest-rank.
+ */
+class FirstTrafficRecorderTests {
+
+    @Test
+    void onlyTheCallFillingTheLastSlotReportsFull() {
+        FirstTrafficRecorder recorder = new FirstTrafficRecorder(3);
+
+        assertFalse(recorder.record(millis(1)));
+        assertFalse(recorder.record(millis(2)));
+        assertTrue(recorder.record(millis(3)));
+        assertFalse(recorder.record(millis(4)));
+        assertTrue(recorder.isFull());
+    }
+
+    @Test
+    void percentilesCoverTheFirstRequestsOnly() {
+        FirstTrafficRecorder recorder = new FirstTrafficRecorder(100);
+        assertEquals(0, recorder.percentileMs(0.99));
+
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(millis(i));
+        }
+        recorder.record(millis(5_000));
+
+        assertEquals(50, recorder.percentileMs(0.50));
+        assertEquals(99, recorder.percentileMs(0.99));
+        assertEquals(100, recorder.percentileMs(1.0));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,125 @@
+package edu.ucf.college_event_website.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * GCRA token buckets on a hand-driven clock: burst, refill and the Retry-After value.
+ */
+class RateLimiterTests {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void burstUpToCapacityThenReject() {
+        // 3 tokens, one more per second
+        RateLimiter limiter = new RateLimiter(3, 60, 100, now::get);
+
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(1, limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tokensRefillOverTimeUpToCapacity() {
+        RateLimiter limiter = new RateLimiter(3, 60, 100, now::get);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("client");
+        }
+
+        advance(1_000);
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(1, limiter.tryAcquire("client"));
+
+        // A long idle period refills the bucket but never past its capacity
+        advance(60_000);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        assertEquals(1, limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void retryAfterIsTheWaitRoundedUpToSeconds() {
+        // 1 token, one more every 3 seconds
+        RateLimiter limiter = new RateLimiter(1, 20, 100, now::get);
+        assertEquals(0, limiter.tryAcquire("client"));
+
+        assertEquals(3, limiter.tryAcquire("client"));
+        advance(1_500);
+        assertEquals(2, limiter.tryAcquire("client"));
+        advance(1_499);
+        assertEquals(1, limiter.tryAcquire("client"));
+        advance(1);
+        assertEquals(0, limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        RateLimiter limiter = new RateLimiter(1, 60, 100, now::get);
+
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(1, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    void fullBucketsAreDroppedToMakeRoom() {
+        RateLimiter limiter = new RateLimiter(1, 60, 2, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // Both buckets are full again, so they can go without losing any state
+        advance(1_000);
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertEquals(0, limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void limitedBucketsAreKeptAndNewKeysRefusedUntilOneRefills() {
+        // 1 token, one more every 3 seconds
+        RateLimiter limiter = new RateLimiter(1, 20, 2, now::get);
+        limiter.tryAcquire("a");
+        advance(1_000);
+        limiter.tryAcquire("b");
+
+        // Neither bucket is full, so dropping one would reset its limit
+        assertEquals(2, limiter.tryAcquire("c"));
+        assertEquals(2, limiter.tryAcquire("a"));
+        assertEquals(3, limiter.tryAcquire("b"));
+
+        // Once the oldest bucket has refilled it makes room
+        advance(2_000);
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertEquals(1, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void trimDropsEveryFullBucketAndNothingElse() {
+        RateLimiter limiter = new RateLimiter(1, 60, 10, now::get);
+        for (int i = 0; i < 6; i++) {
+            limiter.tryAcquire("idle-" + i);
+        }
+        advance(1_000);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("busy-" + i);
+        }
+
+        assertEquals(0, limiter.tryAcquire("new"));
+
+        // The six refilled buckets went in one pass, the four limited ones stayed
+        assertEquals(5, limiter.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(1, limiter.tryAcquire("busy-" + i));
+        }
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,77 @@
+package edu.ucf.college_event_website.util;
+
+import edu.ucf.college_event_website.dto.RsoDirectoryResponse;
+import edu.ucf.college_event_website.model.RsoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The version check that keeps raced pages out, per-college eviction, and LRU eviction once full.
+ * No transaction is active here, so evictCollege applies both of its evictions right away.
+ */
+class RsoDirectoryCacheTests {
+
+    private RsoDirectoryCache cache;
+
+    @BeforeEach
+    void createCache() {
+        cache = new RsoDirectoryCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+    }
+
+    @Test
+    void pageReadAtTheCurrentVersionIsKept() {
+        RsoDirectoryResponse page = page();
+        cache.put(1L, RsoStatus.ACTIVE, 20, cache.version(1L), page);
+
+        assertSame(page, cache.get(1L, RsoStatus.ACTIVE, 20));
+        assertNull(cache.get(1L, RsoStatus.INACTIVE, 20));
+        assertNull(cache.get(1L, RsoStatus.ACTIVE, 50));
+    }
+
+    @Test
+    void pageReadBeforeAWriteIsDropped() {
+        long version = cache.version(1L);
+        cache.evictCollege(1L);
+
+        cache.put(1L, RsoStatus.ACTIVE, 20, version, page());
+
+        assertNull(cache.get(1L, RsoStatus.ACTIVE, 20));
+    }
+
+    @Test
+    void writeEvictsOnlyItsOwnCollege() {
+        cache.put(1L, RsoStatus.ACTIVE, 20, cache.version(1L), page());
+        cache.put(2L, RsoStatus.ACTIVE, 20, cache.version(2L), page());
+
+        cache.evictCollege(1L);
+
+        assertNull(cache.get(1L, RsoStatus.ACTIVE, 20));
+        assertNotNull(cache.get(2L, RsoStatus.ACTIVE, 20));
+    }
+
+    @Test
+    void fullCacheEvictsTheLeastRecentlyReadPage() {
+        cache.put(1L, RsoStatus.ACTIVE, 20, cache.version(1L), page());
+        cache.put(2L, RsoStatus.ACTIVE, 20, cache.version(2L), page());
+        // Reading college 1 makes college 2 the least recently used
+        cache.get(1L, RsoStatus.ACTIVE, 20);
+
+        cache.put(3L, RsoStatus.ACTIVE, 20, cache.version(3L), page());
+
+        assertNotNull(cache.get(1L, RsoStatus.ACTIVE, 20));
+        assertNull(cache.get(2L, RsoStatus.ACTIVE, 20));
+        assertNotNull(cache.get(3L, RsoStatus.ACTIVE, 20));
+    }
+
+    private static RsoDirectoryResponse page() {
+        return new RsoDirectoryResponse(List.of(), false, null, null);
+    }
+}
@@ -0,0 +1,114 @@
+package edu.ucf.college_event_website.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Signed datagrams between two buses on the loopback interface, and the settings the bus refuses to start with.
+ */
+class UdpInvalidationBusTests {
+
+    private static final String SECRET = "udp-invalidation-bus-test-secret-0123456789";
+
+    private final List<UdpInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void closeBuses() {
+        buses.forEach(UdpInvalidationBus::close);
+    }
+
+    @Test
+    void signedBatchReachesThePeer() throws Exception {
+        int receiverPort = freeUdpPort();
+        BlockingQueue<InvalidationBus.Batch> received = new LinkedBlockingQueue<>();
+        start(bus("127.0.0.1", receiverPort, List.of(), SECRET, false)).subscribe(received::add);
+        UdpInvalidationBus sender = start(bus("127.0.0.1", freeUdpPort(), List.of("127.0.0.1:" + receiverPort), SECRET, false));
+
+        sender.publish(new InvalidationBus.Batch("node-a", List.of(Invalidation.event(7L), Invalidation.allEvents())));
+
+        InvalidationBus.Batch batch = received.poll(5, TimeUnit.SECONDS);
+        assertEquals("node-a", batch.origin());
+        assertEquals(List.of(Invalidation.event(7L), Invalidation.allEvents()), batch.invalidations());
+    }
+
+    @Test
+    void datagramSignedWithAnotherSecretIsDropped() throws Exception {
+        int receiverPort = freeUdpPort();
+        BlockingQueue<InvalidationBus.Batch> received = new LinkedBlockingQueue<>();
+        start(bus("127.0.0.1", receiverPort, List.of(), SECRET, false)).subscribe(received::add);
+        UdpInvalidationBus forger = start(bus("127.0.0.1", freeUdpPort(), List.of("127.0.0.1:" + receiverPort),
+                "some-other-secret-that-is-long-enough-too", false));
+
+        forger.publish(new InvalidationBus.Batch("node-x", List.of(Invalidation.allEvents())));
+        sendRaw(receiverPort, "node-x\nALL_EVENTS -\n");
+
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void nonLoopbackBindNeedsTheOptIn() throws Exception {
+        UdpInvalidationBus bus = bus("0.0.0.0", freeUdpPort(), List.of(), SECRET, false);
+
+        assertThrows(IllegalStateException.class, bus::start);
+    }
+
+    @Test
+    void nonLoopbackPeerNeedsTheOptIn() throws Exception {
+        UdpInvalidationBus bus = bus("127.0.0.1", freeUdpPort(), List.of("192.0.2.10:47800"), SECRET, false);
+
+        assertThrows(IllegalStateException.class, bus::start);
+    }
+
+    @Test
+    void shortSecretIsRefused() throws Exception {
+        UdpInvalidationBus bus = bus("127.0.0.1", freeUdpPort(), List.of(), "too-short", false);
+
+        assertThrows(IllegalStateException.class, bus::start);
+    }
+
+    private UdpInvalidationBus start(UdpInvalidationBus bus) throws SocketException {
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static UdpInvalidationBus bus(String bindAddress, int port, List<String> peers, String secret,
+                                          boolean allowRemote) {
+        UdpInvalidationBus bus = new UdpInvalidationBus();
+        ReflectionTestUtils.setField(bus, "bindAddress", bindAddress);
+        ReflectionTestUtils.setField(bus, "port", port);
+        ReflectionTestUtils.setField(bus, "peers", peers);
+        ReflectionTestUtils.setField(bus, "secret", secret);
+        ReflectionTestUtils.setField(bus, "allowRemote", allowRemote);
+        return bus;
+    }
+
+    private static void sendRaw(int port, String text) throws Exception {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        try (DatagramSocket socket = new DatagramSocket()) {
+            socket.send(new DatagramPacket(data, data.length, new InetSocketAddress("127.0.0.1", port)));
+        }
+    }
+
+    private static int freeUdpPort() throws SocketException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package edu.ucf.college_event_website.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Only a request carrying the key of the running warm-up counts as warm-up traffic.
+ */
+class WarmupTrafficTests {
+
+    private final WarmupTraffic warmupTraffic = new WarmupTraffic();
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void requestWithTheCurrentKeyIsWarmup() {
+        String key = warmupTraffic.open();
+
+        assertTrue(warmupTraffic.isWarmup(request(key)));
+        assertFalse(warmupTraffic.isWarmup(request("guessed")));
+        assertFalse(warmupTraffic.isWarmup(new MockHttpServletRequest()));
+    }
+
+    @Test
+    void noKeyIsValidOnceTheWarmupEnds() {
+        String key = warmupTraffic.open();
+        warmupTraffic.close();
+
+        assertFalse(warmupTraffic.isWarmup(request(key)));
+    }
+
+    @Test
+    void keyFromAnEarlierRunIsRejected() {
+        String first = warmupTraffic.open();
+        String second = warmupTraffic.open();
+
+        assertNotEquals(first, second);
+        assertFalse(warmupTraffic.isWarmup(request(first)));
+    }
+
+    @Test
+    void currentRequestIsCheckedThroughTheRequestContext() {
+        String key = warmupTraffic.open();
+        assertFalse(warmupTraffic.isCurrentRequestWarmup());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request(key)));
+
+        assertTrue(warmupTraffic.isCurrentRequestWarmup());
+    }
+
+    private static MockHttpServletRequest request(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader(WarmupTraffic.HEADER, key);
+        return request;
+    }
+}